@@ -0,0 +1,106 @@
+package com.clubhub.repository;
+
+import java.util.concurrent.TimeUnit;
+
+import com.clubhub.entity.Club;
+import com.clubhub.entity.Comment;
+import com.clubhub.entity.Event;
+import com.clubhub.entity.ForumThread;
+import com.clubhub.entity.Member;
+import com.clubhub.entity.Post;
+import com.clubhub.entity.Reply;
+import com.clubhub.entity.User;
+import com.clubhub.repository.ClubSearchQueries.Shape;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the per-request cost of obtaining a club search query before and after
+ * {@link ClubSearchQueries}: building the query string and handing it to {@code createQuery}, as
+ * the repository used to, against looking up the query registered at startup.
+ * <p>
+ * Hibernate is bootstrapped against the PostgreSQL dialect without a database, so the benchmark
+ * covers parsing and interpretation of the query but not its execution. With
+ * {@code planCache=false} every string-built query is translated from scratch; with
+ * {@code planCache=true} repeated strings are served from Hibernate's query plan cache, which is
+ * the best case for the old code.
+ * <p>
+ * Run with {@code mvn -Pjmh compile exec:exec}; pass JMH options through {@code -Djmh.args=...}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClubSearchQueriesBenchmark {
+
+	@Param({ "SUMMARY", "SUMMARY_AFTER", "FULL_TEXT" })
+	public String query;
+
+	/** No filters, name and interest, all five filters. */
+	@Param({ "0", "5", "31" })
+	public int mask;
+
+	@Param({ "true", "false" })
+	public boolean planCache;
+
+	private Shape shape;
+
+	private SessionFactory sessionFactory;
+
+	private Session session;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		shape = Shape.valueOf(query);
+		StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+				.applySetting(AvailableSettings.DIALECT, PostgreSQLDialect.class.getName())
+				.applySetting(AvailableSettings.ALLOW_METADATA_ON_BOOT, false)
+				.applySetting(AvailableSettings.QUERY_PLAN_CACHE_ENABLED, planCache)
+				.build();
+		sessionFactory = new MetadataSources(registry)
+				.addAnnotatedClasses(Club.class, Comment.class, Event.class, ForumThread.class, Member.class,
+						Post.class, Reply.class, User.class)
+				.buildMetadata()
+				.buildSessionFactory();
+		ClubSearchQueries.register(sessionFactory);
+		session = sessionFactory.openSession();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		session.close();
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public Object stringBuilt() {
+		String text = shape.build(mask);
+		return shape.nativeSql ? session.createNativeQuery(text) : session.createQuery(text, Object[].class);
+	}
+
+	@Benchmark
+	public Object precompiled() {
+		return session.createNamedQuery(shape.queryName(mask));
+	}
+}
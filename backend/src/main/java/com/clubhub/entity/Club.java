@@ -56,11 +56,22 @@ public class Club {
 	@Column(name = "avatar_etag")
 	private String avatarEtag;
 
-	@Column(name = "is_joined")
-	private boolean isJoined;
-
+	/** Set on insert only, then maintained by atomic SQL updates, see {@code ClubRepository#adjustMembersCount}. */
+	@Column(updatable = false)
 	private int members;
 
+	/** Maintained by atomic SQL updates, see {@code ClubRepository#adjustEventsCount}. */
+	@Column(name = "events_count", insertable = false, updatable = false)
+	private int eventsCount;
+
+	/** Maintained by atomic SQL updates, see {@code ClubRepository#adjustPostsCount}. */
+	@Column(name = "posts_count", insertable = false, updatable = false)
+	private int postsCount;
+
+	/** Maintained by atomic SQL updates, see {@code ClubRepository#adjustThreadsCount}. */
+	@Column(name = "threads_count", insertable = false, updatable = false)
+	private int threadsCount;
+
 	@OneToMany(mappedBy = "club", cascade = CascadeType.ALL, orphanRemoval = true)
 	private Set<Event> events = new HashSet<>();
 
@@ -1,5 +1,6 @@
 package com.clubhub.entity;
 
+import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -39,7 +40,7 @@ public class Comment {
 	private String content;
 
 	@Column(name = "time")
-	private String time;
+	private LocalDateTime time;
 
 	@Column(name = "likes")
 	private int likes;
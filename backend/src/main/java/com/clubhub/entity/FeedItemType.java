@@ -0,0 +1,6 @@
+package com.clubhub.entity;
+
+public enum FeedItemType {
+	POST,
+	EVENT
+}
@@ -15,5 +15,7 @@ public class PollOption {
 	@Column(name = "option_text")
 	private String text;
 
+	/** Maintained by atomic SQL updates, see {@code PostRepository#incrementPollVotes}. */
+	@Column(updatable = false)
 	private int votes;
 }
@@ -42,10 +42,21 @@ public class Post {
 	@JoinColumn(name = "author_id")
 	private User author;
 	private String content;
+	/** Maintained by atomic SQL updates, see {@code PostRepository#adjustLikes}. */
+	@Column(updatable = false)
 	private int likes;
+	/** Maintained by atomic SQL updates, see {@code PostRepository#adjustComments}. */
+	@Column(updatable = false)
 	private int comments;
+	/** Maintained by atomic SQL updates, see {@code PostRepository#adjustBookmarks}. */
+	@Column(updatable = false)
 	private int bookmarks;
+	/** Maintained by batched SQL updates, see {@code ShareCounterBuffer}. */
+	@Column(updatable = false)
 	private int shares;
+	/** Ranking for the "hot" sort, recomputed in the background by {@code HotScoreUpdater}. */
+	@Column(name = "hot_score", insertable = false, updatable = false)
+	private double hotScore;
 
 	@Column(name = "time")
 	private LocalDateTime time;
@@ -0,0 +1,17 @@
+package com.clubhub.entity;
+
+import java.util.Locale;
+
+public enum PostSort {
+	/** Newest first. */
+	NEW,
+	/** By precomputed engagement score, see {@code post.hot_score}. */
+	HOT;
+
+	/**
+	 * Parses a {@code sort} query parameter case-insensitively, so clients can pass {@code sort=hot}.
+	 */
+	public static PostSort fromString(String value) {
+		return valueOf(value.trim().toUpperCase(Locale.ROOT));
+	}
+}
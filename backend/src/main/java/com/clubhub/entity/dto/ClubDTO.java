@@ -1,7 +1,5 @@
 package com.clubhub.entity.dto;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.UUID;
 
 import com.clubhub.entity.Preference;
@@ -25,5 +23,5 @@ public class ClubDTO {
 	private int members;
 	private int eventsCount;
 	private int postsCount;
-	private final List<MemberDTO> membersList = new ArrayList<>();
+	private int threadsCount;
 }
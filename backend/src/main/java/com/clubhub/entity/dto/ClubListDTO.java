@@ -9,5 +9,6 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class ClubListDTO {
 	private List<ClubDTO> clubs;
-	private long totalCount;
+	private Long totalCount;
+	private String nextCursor;
 }
@@ -0,0 +1,15 @@
+package com.clubhub.entity.dto;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClubSuggestionDTO {
+	private UUID id;
+	private String name;
+}
@@ -11,4 +11,6 @@ import lombok.NoArgsConstructor;
 public class FeedDTO {
 	private final List<PostDTO> posts = new ArrayList<>();
 	private final List<EventDTO> events = new ArrayList<>();
+	private String nextPostCursor;
+	private String nextEventCursor;
 }
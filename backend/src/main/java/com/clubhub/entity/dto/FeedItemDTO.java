@@ -0,0 +1,14 @@
+package com.clubhub.entity.dto;
+
+import com.clubhub.entity.FeedItemType;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class FeedItemDTO {
+	private FeedItemType type;
+	private PostDTO post;
+	private EventDTO event;
+}
@@ -0,0 +1,14 @@
+package com.clubhub.entity.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class FeedStreamDTO {
+	private final List<FeedItemDTO> items = new ArrayList<>();
+	private String nextCursor;
+}
@@ -0,0 +1,14 @@
+package com.clubhub.entity.dto;
+
+import java.util.List;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class MemberImportDTO {
+	private int imported;
+	private int alreadyMembers;
+	private List<String> unknownEmails;
+}
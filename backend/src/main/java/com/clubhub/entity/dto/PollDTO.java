@@ -10,5 +10,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class PollDTO {
 	private String question;
+	/** Option the requesting user voted for, {@code null} if they have not voted. */
+	private String votedOption;
 	private final List<PollOptionDTO> options = new ArrayList<>();
 }
@@ -0,0 +1,10 @@
+package com.clubhub.entity.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class PollVoteDTO {
+	private String option;
+}
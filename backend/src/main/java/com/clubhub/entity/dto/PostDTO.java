@@ -22,5 +22,6 @@ public class PostDTO {
 	private PollDTO poll;
 	private ClubDTO club;
 	private boolean liked;
+	private boolean bookmarked;
 
 }
@@ -0,0 +1,13 @@
+package com.clubhub.entity.dto;
+
+import java.util.List;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class PostListDTO {
+	private List<PostDTO> posts;
+	private String nextCursor;
+}
@@ -1,25 +1,12 @@
 package com.clubhub.entity.mapper;
 
-import java.util.UUID;
-
 import com.clubhub.entity.Club;
 import com.clubhub.entity.dto.ClubDTO;
+import com.clubhub.repository.ClubSummary;
 import com.clubhub.service.ObjectStorageService;
 
 public class ClubMapper {
 
-	public static ClubDTO toDTO(Club club) {
-		return toDTO(club, null);
-	}
-
-	public static ClubDTO toDTO(Club club, UUID userId) {
-		ClubDTO dto = toSummaryDTO(club);
-
-		dto.getMembersList().addAll(club.getMembersList().stream().map(MemberMapper::toDTO).toList());
-
-		return dto;
-	}
-
 	public static ClubDTO toSummaryDTO(Club club) {
 		ClubDTO dto = new ClubDTO();
 		dto.setId(club.getId());
@@ -30,10 +17,28 @@ public class ClubMapper {
 		dto.setInterest(club.getInterest());
 		dto.setLocation(club.getLocation());
 		dto.setAvatar(ObjectStorageService.url(club.getAvatarBucket(), club.getAvatarObject()));
-		dto.setJoined(club.isJoined());
-		dto.setMembers(club.getMembersList() != null ? club.getMembersList().size() : 0);
-		dto.setEventsCount(club.getEvents() != null ? club.getEvents().size() : 0);
-		dto.setPostsCount(club.getPosts() != null ? club.getPosts().size() : 0);
+		dto.setMembers(club.getMembers());
+		dto.setEventsCount(club.getEventsCount());
+		dto.setPostsCount(club.getPostsCount());
+		dto.setThreadsCount(club.getThreadsCount());
+		return dto;
+	}
+
+	public static ClubDTO toSummaryDTO(ClubSummary summary, boolean joined) {
+		ClubDTO dto = new ClubDTO();
+		dto.setId(summary.id());
+		dto.setName(summary.name());
+		dto.setDescription(summary.description());
+		dto.setCategory(summary.category());
+		dto.setSubject(summary.subject());
+		dto.setInterest(summary.interest());
+		dto.setLocation(summary.location());
+		dto.setAvatar(ObjectStorageService.url(summary.avatarBucket(), summary.avatarObject()));
+		dto.setJoined(joined);
+		dto.setMembers(summary.members());
+		dto.setEventsCount(summary.eventsCount());
+		dto.setPostsCount(summary.postsCount());
+		dto.setThreadsCount(summary.threadsCount());
 		return dto;
 	}
 
@@ -51,7 +56,6 @@ public class ClubMapper {
 		club.setInterest(dto.getInterest());
 		club.setLocation(dto.getLocation());
 		// avatar handled separately
-		club.setJoined(dto.isJoined());
 		club.setMembers(dto.getMembers());
 
 		return club;
@@ -16,7 +16,7 @@ public class CommentMapper {
 		dto.setId(c.getId());
 		dto.setAuthor(c.getAuthor() != null ? UserMapper.toAuthorDTO(c.getAuthor()) : null);
 		dto.setContent(c.getContent());
-		dto.setTime(c.getTime());
+		dto.setTime(c.getTime() != null ? c.getTime().toString() : null);
 		dto.setLikes(c.getLikes());
 		dto.setLiked(userId != null && c.getLikedBy().stream().anyMatch(u -> u.getId().equals(userId)));
 		return dto;
@@ -2,6 +2,7 @@ package com.clubhub.entity.mapper;
 
 import com.clubhub.entity.Member;
 import com.clubhub.entity.dto.MemberDTO;
+import com.clubhub.repository.MemberSummary;
 import com.clubhub.service.ObjectStorageService;
 
 public class MemberMapper {
@@ -23,4 +24,16 @@ public class MemberMapper {
 
 		return dto;
 	}
+
+	public static MemberDTO toDTO(MemberSummary summary) {
+		MemberDTO dto = new MemberDTO();
+		dto.setId(summary.id());
+		dto.setClubId(summary.clubId());
+		dto.setUserId(summary.userId());
+		dto.setName(summary.username());
+		dto.setRole(summary.role() != null ? summary.role().name() : null);
+		dto.setAvatar(ObjectStorageService.url(summary.avatarBucket(), summary.avatarObject()));
+		dto.setJoinedAt(summary.joinedAt());
+		return dto;
+	}
 }
@@ -7,9 +7,10 @@ import com.clubhub.entity.dto.PollOptionDTO;
 
 public class PollMapper {
 
-	public static PollDTO toDTO(Poll poll) {
+	public static PollDTO toDTO(Poll poll, String votedOption) {
 		PollDTO dto = new PollDTO();
 		dto.setQuestion(poll.getQuestion());
+		dto.setVotedOption(votedOption);
 		dto.getOptions().addAll(poll.getOptions().stream().map(PollMapper::toOptionDTO).toList());
 		return dto;
 	}
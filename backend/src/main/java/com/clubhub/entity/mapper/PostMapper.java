@@ -1,20 +1,19 @@
 package com.clubhub.entity.mapper;
 
-import java.util.UUID;
-
 import com.clubhub.entity.Club;
 import com.clubhub.entity.Post;
 import com.clubhub.entity.User;
 import com.clubhub.entity.dto.PostDTO;
+import com.clubhub.repository.PostViewerState;
 import com.clubhub.service.ObjectStorageService;
 
 public class PostMapper {
 
 	public static PostDTO toDTO(Post p) {
-		return toDTO(p, null);
+		return toDTO(p, PostViewerState.NONE);
 	}
 
-	public static PostDTO toDTO(Post p, UUID userId) {
+	public static PostDTO toDTO(Post p, PostViewerState viewer) {
 		PostDTO dto = new PostDTO();
 		dto.setId(p.getId());
 		dto.setAuthor(p.getAuthor() != null ? UserMapper.toAuthorDTO(p.getAuthor()) : null);
@@ -26,9 +25,10 @@ public class PostMapper {
 		dto.setTime(p.getTime());
 		dto.setPicture(ObjectStorageService.url(p.getPictureBucket(), p.getPictureObject()));
 
-		dto.setPoll(p.getPoll() != null ? PollMapper.toDTO(p.getPoll()) : null);
+		dto.setPoll(p.getPoll() != null ? PollMapper.toDTO(p.getPoll(), viewer.votedOption(p.getId())) : null);
 		dto.setClub(p.getClub() != null ? ClubMapper.toSummaryDTO(p.getClub()) : null);
-		dto.setLiked(userId != null && p.getLikedBy().stream().anyMatch(u -> u.getId().equals(userId)));
+		dto.setLiked(viewer.liked(p.getId()));
+		dto.setBookmarked(viewer.bookmarked(p.getId()));
 		return dto;
 	}
 
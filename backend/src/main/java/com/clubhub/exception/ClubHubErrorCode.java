@@ -56,4 +56,16 @@ public final class ClubHubErrorCode {
 
 	/** Thread not found. */
 	public static final String THREAD_NOT_FOUND = "CLB-00-0000-0015";
+
+	/** Pagination cursor is malformed. */
+	public static final String INVALID_CURSOR = "CLB-00-0000-0016";
+
+	/** A row of a member import file cannot be read. */
+	public static final String INVALID_IMPORT_ROW = "CLB-00-0000-0017";
+
+	/** Poll option does not exist, or the post has no poll. */
+	public static final String INVALID_POLL_OPTION = "CLB-00-0000-0018";
+
+	/** User already voted for another option of the poll. */
+	public static final String POLL_ALREADY_VOTED = "CLB-00-0000-0019";
 }
@@ -1,15 +1,30 @@
 package com.clubhub.repository;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
 import jakarta.inject.Inject;
 import jakarta.persistence.EntityManager;
-import jakarta.persistence.NoResultException;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
 
 import com.clubhub.entity.Club;
 import com.clubhub.entity.Preference;
+import com.clubhub.entity.Subject;
+import com.clubhub.repository.ClubSearchQueries.Shape;
+
+import io.quarkus.runtime.StartupEvent;
 
 @ApplicationScoped
 public class ClubRepository {
@@ -17,90 +32,195 @@ public class ClubRepository {
 	@Inject
 	EntityManager em;
 
+	@Inject
+	EntityManagerFactory emf;
+
 	public List<Club> findAll() {
 		return em.createQuery("""
-				 SELECT DISTINCT c FROM Club c
-				 LEFT JOIN FETCH c.events
-				 LEFT JOIN FETCH c.posts
-				 LEFT JOIN FETCH c.membersList
-				LEFT JOIN FETCH c.forumThreads
-				 """, Club.class)
+				SELECT DISTINCT c FROM Club c
+				LEFT JOIN FETCH c.membersList
+				""", Club.class)
 				.getResultList();
 	}
 
+	/**
+	 * Registers the precompiled search queries, see {@link ClubSearchQueries}.
+	 */
+	void onStart(@Observes StartupEvent event) {
+		ClubSearchQueries.register(emf);
+	}
+
+	/**
+	 * Searches clubs in two phases: the matching IDs are paged in SQL first and only the clubs of
+	 * that page are then loaded with their collections. Fetch-joining collections together with
+	 * {@code setMaxResults} would otherwise make Hibernate page the whole result in memory.
+	 */
 	public List<Club> search(String name, String category, Preference interest,
 			Integer minMembers, Integer maxMembers, int page, int size) {
-		StringBuilder sb = new StringBuilder("""
-				SELECT DISTINCT c FROM Club c
-				LEFT JOIN FETCH c.events
-				LEFT JOIN FETCH c.posts
-				LEFT JOIN FETCH c.membersList
-				LEFT JOIN FETCH c.forumThreads
-				WHERE 1=1
-				""");
+		var idQuery = searchQuery(Shape.IDS, UUID.class, name, category, interest, minMembers, maxMembers);
+		idQuery.setFirstResult(page * size);
+		idQuery.setMaxResults(size);
 
-		if (name != null) {
-			sb.append(" AND LOWER(c.name) LIKE LOWER(CONCAT('%', :name, '%'))");
-		}
-		if (category != null) {
-			sb.append(" AND c.category = :category");
-		}
-		if (interest != null) {
-			sb.append(" AND c.interest = :interest");
-		}
-		if (minMembers != null) {
-			sb.append(" AND c.members >= :minMembers");
-		}
-		if (maxMembers != null) {
-			sb.append(" AND c.members <= :maxMembers");
+		List<UUID> ids = idQuery.getResultList();
+		if (ids.isEmpty()) {
+			return List.of();
 		}
 
-		var query = em.createQuery(sb.toString(), Club.class);
+		Map<UUID, Club> byId = em.createQuery("""
+				SELECT DISTINCT c FROM Club c
+				LEFT JOIN FETCH c.membersList
+				WHERE c.id IN :ids
+				""", Club.class)
+				.setParameter("ids", ids)
+				.getResultStream()
+				.collect(Collectors.toMap(Club::getId, Function.identity()));
+		return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+	}
 
-		if (name != null) {
-			query.setParameter("name", name);
-		}
-		if (category != null) {
-			query.setParameter("category", category);
-		}
-		if (interest != null) {
-			query.setParameter("interest", interest);
-		}
-		if (minMembers != null) {
-			query.setParameter("minMembers", minMembers);
-		}
-		if (maxMembers != null) {
-			query.setParameter("maxMembers", maxMembers);
-		}
+	/**
+	 * Loads one page of club summaries for the directory. Counts are read from the denormalized
+	 * counter columns so none of the club's collections are hydrated and paging happens in SQL.
+	 */
+	public List<ClubSummary> searchSummaries(String name, String category, Preference interest,
+			Integer minMembers, Integer maxMembers, int page, int size) {
+		var query = searchQuery(Shape.SUMMARY, Object[].class, name, category, interest, minMembers, maxMembers);
+		query.setFirstResult(page * size);
+		query.setMaxResults(size);
+
+		return query.getResultList().stream().map(ClubRepository::toSummary).toList();
+	}
 
+	/**
+	 * Same as {@link #searchSummaries} but also returns the number of matching clubs. The total is
+	 * computed with {@code COUNT(*) OVER ()} in the page query itself, so no separate count
+	 * statement with the same filters is needed.
+	 */
+	public ClubSummaryPage searchSummariesWithTotal(String name, String category, Preference interest,
+			Integer minMembers, Integer maxMembers, int page, int size) {
+		var query = searchQuery(Shape.SUMMARY_WITH_TOTAL, Object[].class, name, category, interest, minMembers,
+				maxMembers);
 		query.setFirstResult(page * size);
 		query.setMaxResults(size);
 
-		return query.getResultList();
+		return toPage(query.getResultList(), page,
+				() -> countSearch(name, category, interest, minMembers, maxMembers));
+	}
+
+	/**
+	 * Loads the club summaries ordered directly after the given {@code (name, id)} key. The keyset
+	 * predicate is served by the {@code (name, id)} index, so every page costs the same regardless
+	 * of how deep the client has scrolled.
+	 */
+	public List<ClubSummary> searchSummariesAfter(String name, String category, Preference interest,
+			Integer minMembers, Integer maxMembers, String afterName, UUID afterId, int size) {
+		var query = searchQuery(Shape.SUMMARY_AFTER, Object[].class, name, category, interest, minMembers,
+				maxMembers);
+		query.setParameter("afterName", afterName);
+		query.setParameter("afterId", afterId);
+		query.setMaxResults(size);
+
+		return query.getResultList().stream().map(ClubRepository::toSummary).toList();
 	}
 
 	public long countSearch(String name, String category, Preference interest,
 			Integer minMembers, Integer maxMembers) {
-		StringBuilder sb = new StringBuilder("SELECT COUNT(c) FROM Club c WHERE 1=1");
+		return searchQuery(Shape.COUNT, Long.class, name, category, interest, minMembers, maxMembers)
+				.getSingleResult();
+	}
 
-		if (name != null) {
-			sb.append(" AND LOWER(c.name) LIKE LOWER(CONCAT('%', :name, '%'))");
+	/**
+	 * Ranks clubs against a full-text query over name, category, location and description. The
+	 * query is matched against the GIN-indexed {@code search_vector} column, every term is treated
+	 * as a prefix so the search box can query while the user types.
+	 */
+	public List<ClubSummary> searchSummariesFullText(String q, String name, String category, Preference interest,
+			Integer minMembers, Integer maxMembers, int page, int size) {
+		return fullTextQuery(Shape.FULL_TEXT, q, name, category, interest, minMembers, maxMembers, page, size)
+				.stream()
+				.map(ClubRepository::toSummary)
+				.toList();
+	}
+
+	/**
+	 * Same as {@link #searchSummariesFullText} but also returns the number of matching clubs,
+	 * computed with {@code COUNT(*) OVER ()} in the same statement.
+	 */
+	public ClubSummaryPage searchSummariesFullTextWithTotal(String q, String name, String category,
+			Preference interest, Integer minMembers, Integer maxMembers, int page, int size) {
+		return toPage(fullTextQuery(Shape.FULL_TEXT_WITH_TOTAL, q, name, category, interest, minMembers, maxMembers,
+				page, size), page, () -> countFullText(q, name, category, interest, minMembers, maxMembers));
+	}
+
+	public long countFullText(String q, String name, String category, Preference interest,
+			Integer minMembers, Integer maxMembers) {
+		var query = em.createNamedQuery(
+				Shape.FULL_TEXT_COUNT.queryName(ClubSearchQueries.mask(name, category, interest, minMembers, maxMembers)));
+		bindNativeFilters(query, q, name, category, interest, minMembers, maxMembers);
+		return ((Number) query.getSingleResult()).longValue();
+	}
+
+	private <T> TypedQuery<T> searchQuery(Shape shape, Class<T> resultType, String name, String category,
+			Preference interest, Integer minMembers, Integer maxMembers) {
+		var query = em.createNamedQuery(
+				shape.queryName(ClubSearchQueries.mask(name, category, interest, minMembers, maxMembers)), resultType);
+		bindFilters(query, name, category, interest, minMembers, maxMembers);
+		return query;
+	}
+
+	private List<Object[]> fullTextQuery(Shape shape, String q, String name, String category, Preference interest,
+			Integer minMembers, Integer maxMembers, int page, int size) {
+		var query = em.createNamedQuery(
+				shape.queryName(ClubSearchQueries.mask(name, category, interest, minMembers, maxMembers)));
+		bindNativeFilters(query, q, name, category, interest, minMembers, maxMembers);
+		query.setFirstResult(page * size);
+		query.setMaxResults(size);
+
+		@SuppressWarnings("unchecked")
+		List<Object[]> rows = query.getResultList();
+		return rows;
+	}
+
+	private static ClubSummaryPage toPage(List<Object[]> rows, int page, LongSupplier fallbackCount) {
+		long total;
+		if (!rows.isEmpty()) {
+			total = ((Number) rows.get(0)[13]).longValue();
+		} else {
+			// the window count travels with the rows, so a page past the end needs the plain count
+			total = page == 0 ? 0 : fallbackCount.getAsLong();
 		}
-		if (category != null) {
-			sb.append(" AND c.category = :category");
+		return new ClubSummaryPage(rows.stream().map(ClubRepository::toSummary).toList(), total);
+	}
+
+	/**
+	 * Turns free text into a prefix {@code tsquery} expression, e.g. {@code "chess cl"} becomes
+	 * {@code "chess:* & cl:*"}. Everything except letters and digits is dropped so user input can
+	 * never produce a syntactically invalid query.
+	 *
+	 * @return the expression or {@code null} if the text contains no searchable terms
+	 */
+	public static String toPrefixTsQuery(String text) {
+		if (text == null) {
+			return null;
 		}
+		String expression = Arrays.stream(text.split("\\s+"))
+				.map(term -> term.replaceAll("[^\\p{L}\\p{N}]", ""))
+				.filter(term -> !term.isEmpty())
+				.map(term -> term.toLowerCase() + ":*")
+				.collect(Collectors.joining(" & "));
+		return expression.isEmpty() ? null : expression;
+	}
+
+	private static void bindNativeFilters(Query query, String q, String name, String category, Preference interest,
+			Integer minMembers, Integer maxMembers) {
+		query.setParameter("tsQuery", toPrefixTsQuery(q));
+		bindFilters(query, name, category, null, minMembers, maxMembers);
 		if (interest != null) {
-			sb.append(" AND c.interest = :interest");
-		}
-		if (minMembers != null) {
-			sb.append(" AND c.members >= :minMembers");
+			query.setParameter("interest", interest.name());
 		}
-		if (maxMembers != null) {
-			sb.append(" AND c.members <= :maxMembers");
-		}
-
-		var query = em.createQuery(sb.toString(), Long.class);
+	}
 
+	private static void bindFilters(Query query, String name, String category, Preference interest,
+			Integer minMembers, Integer maxMembers) {
 		if (name != null) {
 			query.setParameter("name", name);
 		}
@@ -116,26 +236,43 @@ public class ClubRepository {
 		if (maxMembers != null) {
 			query.setParameter("maxMembers", maxMembers);
 		}
+	}
 
-		return query.getSingleResult();
+	private static ClubSummary toSummary(Object[] row) {
+		return new ClubSummary(
+				(UUID) row[0],
+				(String) row[1],
+				(String) row[2],
+				(String) row[3],
+				toEnum(Subject.class, row[4]),
+				toEnum(Preference.class, row[5]),
+				(String) row[6],
+				(String) row[7],
+				(String) row[8],
+				((Number) row[9]).intValue(),
+				((Number) row[10]).intValue(),
+				((Number) row[11]).intValue(),
+				((Number) row[12]).intValue());
 	}
 
-	public Club findById(UUID id) {
-		try {
-			return em.createQuery("""
-					SELECT DISTINCT c FROM Club c
-					LEFT JOIN FETCH c.events e
-					LEFT JOIN FETCH e.attendees
-					LEFT JOIN FETCH c.posts
-					LEFT JOIN FETCH c.membersList
-					LEFT JOIN FETCH c.forumThreads
-					WHERE c.id = :id
-					""", Club.class)
-					.setParameter("id", id)
-					.getSingleResult();
-		} catch (NoResultException e) {
-			return null;
+	private static <E extends Enum<E>> E toEnum(Class<E> type, Object value) {
+		if (value == null || type.isInstance(value)) {
+			return type.cast(value);
 		}
+		return Enum.valueOf(type, value.toString());
+	}
+
+	public Club findById(UUID id) {
+		return em.find(Club.class, id);
+	}
+
+	/**
+	 * Loads the ID and name of every club, without touching any other column.
+	 */
+	public Map<UUID, String> findAllNames() {
+		return em.createQuery("SELECT c.id, c.name FROM Club c", Object[].class)
+				.getResultStream()
+				.collect(Collectors.toMap(row -> (UUID) row[0], row -> (String) row[1]));
 	}
 
 	public void save(Club club) {
@@ -153,9 +290,105 @@ public class ClubRepository {
 		}
 	}
 
+	/**
+	 * Atomically adds {@code delta} to the club's event counter without loading the club.
+	 */
+	public void adjustEventsCount(UUID clubId, int delta) {
+		em.createNativeQuery("UPDATE clubs SET events_count = events_count + :delta WHERE id = :id")
+				.setParameter("delta", delta)
+				.setParameter("id", clubId)
+				.executeUpdate();
+	}
+
+	/**
+	 * Atomically adds {@code delta} to the club's member counter without loading the club.
+	 */
+	public void adjustMembersCount(UUID clubId, int delta) {
+		em.createNativeQuery("UPDATE clubs SET members = members + :delta WHERE id = :id")
+				.setParameter("delta", delta)
+				.setParameter("id", clubId)
+				.executeUpdate();
+	}
+
+	/**
+	 * Atomically adds {@code delta} to the club's post counter without loading the club.
+	 */
+	public void adjustPostsCount(UUID clubId, int delta) {
+		em.createNativeQuery("UPDATE clubs SET posts_count = posts_count + :delta WHERE id = :id")
+				.setParameter("delta", delta)
+				.setParameter("id", clubId)
+				.executeUpdate();
+	}
+
+	/**
+	 * Atomically adds {@code delta} to the club's forum thread counter without loading the club.
+	 */
+	public void adjustThreadsCount(UUID clubId, int delta) {
+		em.createNativeQuery("UPDATE clubs SET threads_count = threads_count + :delta WHERE id = :id")
+				.setParameter("delta", delta)
+				.setParameter("id", clubId)
+				.executeUpdate();
+	}
+
+	/**
+	 * Bumps the content version of the given clubs, which marks every cached page of their posts and
+	 * events, and every feed that includes them, as stale. The rows are locked in ID order so
+	 * concurrent batches cannot deadlock.
+	 */
+	public void bumpContentVersions(Collection<UUID> clubIds) {
+		if (clubIds.isEmpty()) {
+			return;
+		}
+		em.createNativeQuery("""
+				UPDATE clubs SET content_version = content_version + 1
+				WHERE id IN (SELECT id FROM clubs WHERE id IN (:ids) ORDER BY id FOR UPDATE)
+				""")
+				.setParameter("ids", clubIds)
+				.executeUpdate();
+	}
+
+	/**
+	 * @return the club's content version, or {@code null} if the club does not exist
+	 */
+	public Long findContentVersion(UUID clubId) {
+		List<?> result = em.createNativeQuery("SELECT content_version FROM clubs WHERE id = :id")
+				.setParameter("id", clubId)
+				.getResultList();
+		return result.isEmpty() ? null : ((Number) result.get(0)).longValue();
+	}
+
+	/**
+	 * Returns the content version of every club the user is a member of, ordered by club ID, from
+	 * the {@code member} and {@code clubs} tables only.
+	 */
+	@SuppressWarnings("unchecked")
+	public Map<UUID, Long> findContentVersionsForMember(UUID userId) {
+		List<Object[]> rows = em.createNativeQuery("""
+				SELECT c.id, c.content_version
+				FROM member m
+				JOIN clubs c ON c.id = m.club_id
+				WHERE m.user_id = :userId
+				ORDER BY c.id
+				""")
+				.setParameter("userId", userId)
+				.getResultList();
+		Map<UUID, Long> versions = new LinkedHashMap<>();
+		for (Object[] row : rows) {
+			versions.put((UUID) row[0], ((Number) row[1]).longValue());
+		}
+		return versions;
+	}
+
 	public long countAll() {
 		return em.createQuery("SELECT COUNT(c) FROM Club c", Long.class)
 				.getSingleResult();
 	}
 
+	public boolean exists(UUID id) {
+		return !em.createQuery("SELECT c.id FROM Club c WHERE c.id = :id", UUID.class)
+				.setParameter("id", id)
+				.setMaxResults(1)
+				.getResultList()
+				.isEmpty();
+	}
 }
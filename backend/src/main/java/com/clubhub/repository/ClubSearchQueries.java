@@ -0,0 +1,168 @@
+package com.clubhub.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+import com.clubhub.entity.Preference;
+
+/**
+ * Named queries for every combination of the five optional club search filters. Each filter
+ * contributes one bit to a mask, so every query shape exists in exactly 32 variants. They are
+ * registered once at startup; a search then only looks up the named query for its mask and binds
+ * the parameters instead of building and translating a fresh query string.
+ */
+final class ClubSearchQueries {
+
+	static final int FILTER_COMBINATIONS = 1 << 5;
+
+	private static final int NAME = 1;
+	private static final int CATEGORY = 1 << 1;
+	private static final int INTEREST = 1 << 2;
+	private static final int MIN_MEMBERS = 1 << 3;
+	private static final int MAX_MEMBERS = 1 << 4;
+
+	private static final String SUMMARY_COLUMNS = """
+			SELECT c.id, c.name, c.description, c.category, c.subject, c.interest, c.location,
+			       c.avatarBucket, c.avatarObject,
+			       c.members, c.eventsCount, c.postsCount, c.threadsCount
+			""";
+
+	private static final String NATIVE_SUMMARY_COLUMNS = """
+			SELECT c.id, c.name, c.description, c.category, c.subject, c.interest, c.location,
+			       c.avatar_bucket, c.avatar_object,
+			       c.members, c.events_count, c.posts_count, c.threads_count
+			""";
+
+	enum Shape {
+		IDS(false) {
+			@Override
+			String build(int mask) {
+				return "SELECT c.id FROM Club c WHERE 1=1" + filters(mask) + " ORDER BY c.name, c.id";
+			}
+		},
+		COUNT(false) {
+			@Override
+			String build(int mask) {
+				return "SELECT COUNT(c) FROM Club c WHERE 1=1" + filters(mask);
+			}
+		},
+		SUMMARY(false) {
+			@Override
+			String build(int mask) {
+				return SUMMARY_COLUMNS + " FROM Club c WHERE 1=1" + filters(mask) + " ORDER BY c.name, c.id";
+			}
+		},
+		SUMMARY_WITH_TOTAL(false) {
+			@Override
+			String build(int mask) {
+				return SUMMARY_COLUMNS + ", COUNT(*) OVER () FROM Club c WHERE 1=1" + filters(mask)
+						+ " ORDER BY c.name, c.id";
+			}
+		},
+		SUMMARY_AFTER(false) {
+			@Override
+			String build(int mask) {
+				return SUMMARY_COLUMNS + " FROM Club c WHERE 1=1" + filters(mask)
+						+ " AND (c.name > :afterName OR (c.name = :afterName AND c.id > :afterId))"
+						+ " ORDER BY c.name, c.id";
+			}
+		},
+		FULL_TEXT(true) {
+			@Override
+			String build(int mask) {
+				return NATIVE_SUMMARY_COLUMNS + " FROM clubs c, to_tsquery('simple', :tsQuery) query"
+						+ " WHERE c.search_vector @@ query" + filters(mask)
+						+ " ORDER BY ts_rank(c.search_vector, query) DESC, c.id";
+			}
+		},
+		FULL_TEXT_WITH_TOTAL(true) {
+			@Override
+			String build(int mask) {
+				return NATIVE_SUMMARY_COLUMNS + ", COUNT(*) OVER ()"
+						+ " FROM clubs c, to_tsquery('simple', :tsQuery) query"
+						+ " WHERE c.search_vector @@ query" + filters(mask)
+						+ " ORDER BY ts_rank(c.search_vector, query) DESC, c.id";
+			}
+		},
+		FULL_TEXT_COUNT(true) {
+			@Override
+			String build(int mask) {
+				return "SELECT COUNT(*) FROM clubs c WHERE c.search_vector @@ to_tsquery('simple', :tsQuery)"
+						+ filters(mask);
+			}
+		};
+
+		final boolean nativeSql;
+
+		Shape(boolean nativeSql) {
+			this.nativeSql = nativeSql;
+		}
+
+		abstract String build(int mask);
+
+		String queryName(int mask) {
+			return "Club.search." + name() + "." + mask;
+		}
+	}
+
+	private ClubSearchQueries() {
+	}
+
+	/**
+	 * Translates every shape for every filter combination and registers it as a named query.
+	 */
+	static void register(EntityManagerFactory emf) {
+		try (EntityManager em = emf.createEntityManager()) {
+			for (Shape shape : Shape.values()) {
+				for (int mask = 0; mask < FILTER_COMBINATIONS; mask++) {
+					String query = shape.build(mask);
+					emf.addNamedQuery(shape.queryName(mask),
+							shape.nativeSql ? em.createNativeQuery(query) : em.createQuery(query));
+				}
+			}
+		}
+	}
+
+	static int mask(String name, String category, Preference interest, Integer minMembers, Integer maxMembers) {
+		int mask = 0;
+		if (name != null) {
+			mask |= NAME;
+		}
+		if (category != null) {
+			mask |= CATEGORY;
+		}
+		if (interest != null) {
+			mask |= INTEREST;
+		}
+		if (minMembers != null) {
+			mask |= MIN_MEMBERS;
+		}
+		if (maxMembers != null) {
+			mask |= MAX_MEMBERS;
+		}
+		return mask;
+	}
+
+	/**
+	 * The filter predicates are written so the same text is valid JPQL and PostgreSQL.
+	 */
+	private static String filters(int mask) {
+		StringBuilder sb = new StringBuilder();
+		if ((mask & NAME) != 0) {
+			sb.append(" AND LOWER(c.name) LIKE LOWER(CONCAT('%', :name, '%'))");
+		}
+		if ((mask & CATEGORY) != 0) {
+			sb.append(" AND c.category = :category");
+		}
+		if ((mask & INTEREST) != 0) {
+			sb.append(" AND c.interest = :interest");
+		}
+		if ((mask & MIN_MEMBERS) != 0) {
+			sb.append(" AND c.members >= :minMembers");
+		}
+		if ((mask & MAX_MEMBERS) != 0) {
+			sb.append(" AND c.members <= :maxMembers");
+		}
+		return sb.toString();
+	}
+}
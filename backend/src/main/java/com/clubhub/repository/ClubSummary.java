@@ -0,0 +1,25 @@
+package com.clubhub.repository;
+
+import java.util.UUID;
+
+import com.clubhub.entity.Preference;
+import com.clubhub.entity.Subject;
+
+/**
+ * Read-only projection of a club as shown in the club directory.
+ */
+public record ClubSummary(
+		UUID id,
+		String name,
+		String description,
+		String category,
+		Subject subject,
+		Preference interest,
+		String location,
+		String avatarBucket,
+		String avatarObject,
+		int members,
+		int eventsCount,
+		int postsCount,
+		int threadsCount) {
+}
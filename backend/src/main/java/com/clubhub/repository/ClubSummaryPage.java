@@ -0,0 +1,11 @@
+package com.clubhub.repository;
+
+import java.util.List;
+
+/**
+ * One page of club summaries together with the number of clubs matching the search.
+ */
+public record ClubSummaryPage(
+		List<ClubSummary> summaries,
+		long totalCount) {
+}
@@ -1,5 +1,6 @@
 package com.clubhub.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -32,7 +33,7 @@ public class CommentRepository {
                                 SELECT c
                                 FROM Comment c
                                 WHERE c.post.id = :postId
-                                ORDER BY c.time ASC
+                                ORDER BY c.time ASC, c.id ASC
                                 """, Comment.class)
                                 .setParameter("postId", postId)
                                 .setFirstResult(offset)
@@ -40,6 +41,26 @@ public class CommentRepository {
                                 .getResultList();
         }
 
+	/**
+	 * Returns the page of a post's comments that follows the comment {@code (time, id)}, oldest
+	 * first. The row comparison continues the {@code idx_comment_post_time} index scan where the
+	 * previous page ended, so every page costs the same regardless of depth.
+	 */
+	public List<Comment> findByPostAfter(UUID postId, LocalDateTime time, UUID id, int limit) {
+		return em.createQuery("""
+				SELECT c
+				FROM Comment c
+				WHERE c.post.id = :postId
+				  AND (c.time, c.id) > (:time, :id)
+				ORDER BY c.time ASC, c.id ASC
+				""", Comment.class)
+				.setParameter("postId", postId)
+				.setParameter("time", time)
+				.setParameter("id", id)
+				.setMaxResults(limit)
+				.getResultList();
+	}
+
 	public boolean hasUserLikedComment(UUID commentId, UUID userId) {
 		Long count = em.createQuery("""
 				SELECT COUNT(c)
@@ -59,4 +80,15 @@ public class CommentRepository {
 			em.remove(c);
 		}
 	}
+
+	public UUID findClubId(UUID commentId) {
+		List<UUID> result = em.createQuery("""
+				SELECT c.post.club.id
+				FROM Comment c
+				WHERE c.id = :id
+				""", UUID.class)
+				.setParameter("id", commentId)
+				.getResultList();
+		return result.isEmpty() ? null : result.get(0);
+	}
 }
@@ -1,7 +1,11 @@
 package com.clubhub.repository;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -34,14 +38,18 @@ public class EventRepository {
 		}
 	}
 
-	public List<Event> findFeedForUser(UUID userId, int offset, int limit) {
-		String jpql = "SELECT e FROM Event e JOIN e.club c JOIN c.membersList m "
-				+ "WHERE m.user.id = :userId AND e.createdAt >= m.joinedAt ORDER BY e.createdAt DESC";
-		return em.createQuery(jpql, Event.class)
-				.setParameter("userId", userId)
-				.setFirstResult(offset)
-				.setMaxResults(limit)
-				.getResultList();
+	/**
+	 * Loads the given events in the order of {@code ids}, skipping IDs that no longer exist.
+	 */
+	public List<Event> findByIds(List<UUID> ids) {
+		if (ids.isEmpty()) {
+			return List.of();
+		}
+		Map<UUID, Event> byId = em.createQuery("SELECT e FROM Event e WHERE e.id IN :ids", Event.class)
+				.setParameter("ids", ids)
+				.getResultStream()
+				.collect(Collectors.toMap(Event::getId, Function.identity()));
+		return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
 	}
 
 	public List<Event> findByClub(UUID clubId, int offset, int limit) {
@@ -60,4 +68,15 @@ public class EventRepository {
 				.setParameter("userId", userId)
 				.getSingleResult();
 	}
+
+	public UUID findClubId(UUID eventId) {
+		List<UUID> result = em.createQuery("""
+				SELECT e.club.id
+				FROM Event e
+				WHERE e.id = :id
+				""", UUID.class)
+				.setParameter("id", eventId)
+				.getResultList();
+		return result.isEmpty() ? null : result.get(0);
+	}
 }
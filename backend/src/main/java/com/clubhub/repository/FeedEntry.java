@@ -0,0 +1,15 @@
+package com.clubhub.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.clubhub.entity.FeedItemType;
+
+/**
+ * One row of a user's timeline, pointing at the post or event it shows.
+ */
+public record FeedEntry(
+		FeedItemType type,
+		UUID itemId,
+		LocalDateTime ts) {
+}
@@ -0,0 +1,157 @@
+package com.clubhub.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+
+import com.clubhub.entity.FeedItemType;
+
+/**
+ * Access to the materialized per-user timeline in {@code feed_entry}. Entries are written once per
+ * member when an item is published, so reading a feed is a single range scan over the primary key
+ * {@code (user_id, item_type, ts, item_id)}.
+ */
+@ApplicationScoped
+public class FeedRepository {
+
+	@Inject
+	EntityManager em;
+
+	/**
+	 * Adds an item to the timeline of every current member of the club with one set-based insert.
+	 */
+	public void fanOut(FeedItemType type, UUID itemId, UUID clubId, LocalDateTime ts) {
+		em.createNativeQuery("""
+				INSERT INTO feed_entry (user_id, item_type, ts, item_id, club_id)
+				SELECT m.user_id, :type, :ts, :itemId, :clubId
+				FROM member m
+				WHERE m.club_id = :clubId
+				""")
+				.setParameter("type", type.name())
+				.setParameter("ts", ts)
+				.setParameter("itemId", itemId)
+				.setParameter("clubId", clubId)
+				.executeUpdate();
+	}
+
+	/**
+	 * Returns the IDs of one page of a user's timeline, newest first.
+	 */
+	@SuppressWarnings("unchecked")
+	public List<UUID> findItemIds(UUID userId, FeedItemType type, int offset, int limit) {
+		return em.createNativeQuery("""
+				SELECT f.item_id
+				FROM feed_entry f
+				WHERE f.user_id = :userId AND f.item_type = :type
+				ORDER BY f.ts DESC, f.item_id DESC
+				""", UUID.class)
+				.setParameter("userId", userId)
+				.setParameter("type", type.name())
+				.setFirstResult(offset)
+				.setMaxResults(limit)
+				.getResultList();
+	}
+
+	/**
+	 * Returns the IDs of one page of the posts in a user's timeline published since {@code since},
+	 * ordered by their precomputed {@code hot_score}. Only the entries of that window are read, so
+	 * the sort stays small however long the timeline is.
+	 */
+	@SuppressWarnings("unchecked")
+	public List<UUID> findHotPostIds(UUID userId, LocalDateTime since, int offset, int limit) {
+		return em.createNativeQuery("""
+				SELECT f.item_id
+				FROM feed_entry f
+				JOIN post p ON p.id = f.item_id
+				WHERE f.user_id = :userId AND f.item_type = 'POST' AND f.ts >= :since
+				ORDER BY p.hot_score DESC, p.id
+				""", UUID.class)
+				.setParameter("userId", userId)
+				.setParameter("since", since)
+				.setFirstResult(offset)
+				.setMaxResults(limit)
+				.getResultList();
+	}
+
+	/**
+	 * Returns the IDs of the page of a user's timeline that follows the entry {@code (ts, itemId)},
+	 * newest first. The row comparison continues the primary key scan where the previous page ended,
+	 * so every page costs the same regardless of depth.
+	 */
+	@SuppressWarnings("unchecked")
+	public List<UUID> findItemIdsBefore(UUID userId, FeedItemType type, LocalDateTime ts, UUID itemId, int limit) {
+		return em.createNativeQuery("""
+				SELECT f.item_id
+				FROM feed_entry f
+				WHERE f.user_id = :userId AND f.item_type = :type
+				  AND (f.ts, f.item_id) < (:ts, :itemId)
+				ORDER BY f.ts DESC, f.item_id DESC
+				""", UUID.class)
+				.setParameter("userId", userId)
+				.setParameter("type", type.name())
+				.setParameter("ts", ts)
+				.setParameter("itemId", itemId)
+				.setMaxResults(limit)
+				.getResultList();
+	}
+
+	/**
+	 * Returns one page of a user's posts and events merged by timestamp, newest first, starting
+	 * after the entry {@code (ts, itemId)} or at the top if {@code ts} is {@code null}. Each branch
+	 * is a limited range scan of the primary key for one item type; PostgreSQL merges the two ordered
+	 * scans and stops as soon as {@code limit} rows have been produced.
+	 */
+	@SuppressWarnings("unchecked")
+	public List<FeedEntry> findEntries(UUID userId, LocalDateTime ts, UUID itemId, int limit) {
+		String after = ts != null ? " AND (f.ts, f.item_id) < (:ts, :itemId)" : "";
+		var query = em.createNativeQuery("""
+				(SELECT f.item_type, f.item_id, f.ts FROM feed_entry f
+				 WHERE f.user_id = :userId AND f.item_type = 'POST'%1$s
+				 ORDER BY f.ts DESC, f.item_id DESC LIMIT :limit)
+				UNION ALL
+				(SELECT f.item_type, f.item_id, f.ts FROM feed_entry f
+				 WHERE f.user_id = :userId AND f.item_type = 'EVENT'%1$s
+				 ORDER BY f.ts DESC, f.item_id DESC LIMIT :limit)
+				ORDER BY 3 DESC, 2 DESC
+				LIMIT :limit
+				""".formatted(after))
+				.setParameter("userId", userId)
+				.setParameter("limit", limit);
+		if (ts != null) {
+			query.setParameter("ts", ts);
+			query.setParameter("itemId", itemId);
+		}
+		return ((List<Object[]>) query.getResultList()).stream()
+				.map(row -> new FeedEntry(FeedItemType.valueOf((String) row[0]), (UUID) row[1], toLocalDateTime(row[2])))
+				.toList();
+	}
+
+	private static LocalDateTime toLocalDateTime(Object value) {
+		return value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) value;
+	}
+
+	/**
+	 * Removes an item from every timeline.
+	 */
+	public void deleteItem(FeedItemType type, UUID itemId) {
+		em.createNativeQuery("DELETE FROM feed_entry WHERE item_id = :itemId AND item_type = :type")
+				.setParameter("itemId", itemId)
+				.setParameter("type", type.name())
+				.executeUpdate();
+	}
+
+	/**
+	 * Removes everything a club contributed to a user's timeline, used when the user leaves the club.
+	 */
+	public void deleteForMember(UUID userId, UUID clubId) {
+		em.createNativeQuery("DELETE FROM feed_entry WHERE user_id = :userId AND club_id = :clubId")
+				.setParameter("userId", userId)
+				.setParameter("clubId", clubId)
+				.executeUpdate();
+	}
+}
@@ -61,4 +61,15 @@ public class ForumThreadRepository {
 				.setMaxResults(limit)
 				.getResultList();
 	}
+
+	public UUID findClubId(UUID threadId) {
+		List<UUID> result = em.createQuery("""
+				SELECT t.club.id
+				FROM ForumThread t
+				WHERE t.id = :id
+				""", UUID.class)
+				.setParameter("id", threadId)
+				.getResultList();
+		return result.isEmpty() ? null : result.get(0);
+	}
 }
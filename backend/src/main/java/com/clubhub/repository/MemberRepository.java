@@ -1,6 +1,13 @@
 package com.clubhub.repository;
 
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import jakarta.enterprise.context.ApplicationScoped;
@@ -8,6 +15,9 @@ import jakarta.inject.Inject;
 import jakarta.persistence.EntityManager;
 
 import com.clubhub.entity.Member;
+import com.clubhub.entity.MemberRole;
+
+import org.hibernate.Session;
 
 @ApplicationScoped
 public class MemberRepository {
@@ -38,4 +48,186 @@ public class MemberRepository {
 				.getResultList();
 		return result.isEmpty() ? null : result.get(0);
 	}
+
+	/**
+	 * Looks up the role of a user in a club with a single indexed query on
+	 * {@code member(club_id, user_id)}.
+	 *
+	 * @return the role, or {@code null} if the user is not a member
+	 */
+	public MemberRole findRole(UUID clubId, UUID userId) {
+		List<MemberRole> result = em.createQuery("""
+				SELECT m.role
+				FROM Member m
+				WHERE m.club.id = :clubId AND m.user.id = :userId
+				""", MemberRole.class)
+				.setParameter("clubId", clubId)
+				.setParameter("userId", userId)
+				.setMaxResults(1)
+				.getResultList();
+		return result.isEmpty() ? null : result.get(0);
+	}
+
+	public long countByClubAndRole(UUID clubId, MemberRole role) {
+		return em.createQuery("""
+				SELECT COUNT(m)
+				FROM Member m
+				WHERE m.club.id = :clubId AND m.role = :role
+				""", Long.class)
+				.setParameter("clubId", clubId)
+				.setParameter("role", role)
+				.getSingleResult();
+	}
+
+	/**
+	 * Returns the IDs of all clubs the user is a member of.
+	 */
+	public List<UUID> findClubIds(UUID userId) {
+		return em.createQuery("SELECT m.club.id FROM Member m WHERE m.user.id = :userId", UUID.class)
+				.setParameter("userId", userId)
+				.getResultList();
+	}
+
+	/**
+	 * Returns which of the given clubs the user is a member of, with one query for the whole batch.
+	 */
+	public Set<UUID> findJoinedClubIds(UUID userId, Collection<UUID> clubIds) {
+		if (clubIds.isEmpty()) {
+			return Set.of();
+		}
+		return new HashSet<>(em.createQuery("""
+				SELECT m.club.id
+				FROM Member m
+				WHERE m.user.id = :userId AND m.club.id IN :clubIds
+				""", UUID.class)
+				.setParameter("userId", userId)
+				.setParameter("clubIds", clubIds)
+				.getResultList());
+	}
+
+	/**
+	 * Loads one page of a club's members as projections, joined with the user columns the directory
+	 * shows. Pages are ordered by {@code (joined_at, id)} and continue after the given keyset, which
+	 * the {@code idx_member_club_joined} index serves without sorting.
+	 *
+	 * @param usernamePrefix
+	 *     optional case-insensitive prefix of the username
+	 * @param afterJoinedAt
+	 *     join time of the last member of the previous page, {@code null} for the first page
+	 * @param afterId
+	 *     ID of the last member of the previous page
+	 */
+	public List<MemberSummary> findMemberSummaries(UUID clubId, MemberRole role, String usernamePrefix,
+			LocalDateTime afterJoinedAt, UUID afterId, int size) {
+		boolean hasPrefix = usernamePrefix != null && !usernamePrefix.isBlank();
+		StringBuilder jpql = new StringBuilder("""
+				SELECT new com.clubhub.repository.MemberSummary(
+					m.id, m.club.id, u.id, u.username, m.role, u.avatarBucket, u.avatarObject, m.joinedAt)
+				FROM Member m
+				JOIN m.user u
+				WHERE m.club.id = :clubId
+				""");
+		if (role != null) {
+			jpql.append(" AND m.role = :role");
+		}
+		if (hasPrefix) {
+			jpql.append(" AND LOWER(u.username) LIKE :prefix ESCAPE '\\'");
+		}
+		if (afterJoinedAt != null) {
+			jpql.append(" AND (m.joinedAt > :afterJoinedAt OR (m.joinedAt = :afterJoinedAt AND m.id > :afterId))");
+		}
+		jpql.append(" ORDER BY m.joinedAt, m.id");
+
+		var query = em.createQuery(jpql.toString(), MemberSummary.class)
+				.setParameter("clubId", clubId)
+				.setMaxResults(size);
+		if (role != null) {
+			query.setParameter("role", role);
+		}
+		if (hasPrefix) {
+			query.setParameter("prefix", escapeLike(usernamePrefix.trim().toLowerCase()) + "%");
+		}
+		if (afterJoinedAt != null) {
+			query.setParameter("afterJoinedAt", afterJoinedAt);
+			query.setParameter("afterId", afterId);
+		}
+		return query.getResultList();
+	}
+
+	private static String escapeLike(String value) {
+		return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+	}
+
+	/**
+	 * Inserts a membership unless the user already belongs to the club. Relies on the
+	 * {@code uq_member_club_user} constraint, so concurrent joins of the same user cannot create
+	 * duplicates.
+	 *
+	 * @return {@code true} if a row was inserted
+	 */
+	public boolean insertIfAbsent(UUID clubId, UUID userId, MemberRole role) {
+		return em.createNativeQuery("""
+				INSERT INTO member (id, role, joined_at, club_id, user_id)
+				VALUES (:id, :role, :joinedAt, :clubId, :userId)
+				ON CONFLICT (club_id, user_id) DO NOTHING
+				""")
+				.setParameter("id", UUID.randomUUID())
+				.setParameter("role", role.name())
+				.setParameter("joinedAt", LocalDateTime.now())
+				.setParameter("clubId", clubId)
+				.setParameter("userId", userId)
+				.executeUpdate() > 0;
+	}
+
+	/**
+	 * Inserts many memberships of one club as a single JDBC batch. Users that already belong to the
+	 * club are skipped by the {@code uq_member_club_user} constraint.
+	 *
+	 * @param roles
+	 *     role to assign, keyed by user ID
+	 * @return number of rows actually inserted
+	 */
+	public int insertBatchIfAbsent(UUID clubId, Map<UUID, MemberRole> roles) {
+		if (roles.isEmpty()) {
+			return 0;
+		}
+		Timestamp joinedAt = Timestamp.valueOf(LocalDateTime.now());
+		return em.unwrap(Session.class).doReturningWork(connection -> {
+			try (PreparedStatement statement = connection.prepareStatement("""
+					INSERT INTO member (id, role, joined_at, club_id, user_id)
+					VALUES (?, ?, ?, ?, ?)
+					ON CONFLICT (club_id, user_id) DO NOTHING
+					""")) {
+				for (Map.Entry<UUID, MemberRole> entry : roles.entrySet()) {
+					statement.setObject(1, UUID.randomUUID());
+					statement.setString(2, entry.getValue().name());
+					statement.setTimestamp(3, joinedAt);
+					statement.setObject(4, clubId);
+					statement.setObject(5, entry.getKey());
+					statement.addBatch();
+				}
+				int inserted = 0;
+				for (int count : statement.executeBatch()) {
+					inserted += Math.max(count, 0);
+				}
+				return inserted;
+			}
+		});
+	}
+
+	/**
+	 * Deletes the membership of a user in a club.
+	 *
+	 * @return {@code true} if a row was deleted
+	 */
+	public boolean deleteByClubAndUser(UUID clubId, UUID userId) {
+		return em.createQuery("DELETE FROM Member m WHERE m.club.id = :clubId AND m.user.id = :userId")
+				.setParameter("clubId", clubId)
+				.setParameter("userId", userId)
+				.executeUpdate() > 0;
+	}
+
+	public Member findById(UUID id) {
+		return em.find(Member.class, id);
+	}
 }
@@ -0,0 +1,20 @@
+package com.clubhub.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.clubhub.entity.MemberRole;
+
+/**
+ * Read-only projection of a club member as shown in the member directory.
+ */
+public record MemberSummary(
+		UUID id,
+		UUID clubId,
+		UUID userId,
+		String username,
+		MemberRole role,
+		String avatarBucket,
+		String avatarObject,
+		LocalDateTime joinedAt) {
+}
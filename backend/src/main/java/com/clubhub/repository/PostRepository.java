@@ -1,7 +1,17 @@
 package com.clubhub.repository;
 
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -9,6 +19,8 @@ import jakarta.persistence.EntityManager;
 
 import com.clubhub.entity.Post;
 
+import org.hibernate.Session;
+
 @ApplicationScoped
 public class PostRepository {
 
@@ -34,40 +46,243 @@ public class PostRepository {
 		}
 	}
 
-	public List<Post> findFeedForUser(UUID userId, int offset, int limit) {
-		String jpql = "SELECT p FROM Post p JOIN p.club c JOIN c.membersList m WHERE m.user.id = :userId "
-				+ "AND p.time >= m.joinedAt ORDER BY p.time DESC";
-		return em.createQuery(jpql, Post.class)
+	/**
+	 * Loads the given posts in the order of {@code ids}, skipping IDs that no longer exist.
+	 */
+	public List<Post> findByIds(List<UUID> ids) {
+		if (ids.isEmpty()) {
+			return List.of();
+		}
+		Map<UUID, Post> byId = em.createQuery("SELECT p FROM Post p WHERE p.id IN :ids", Post.class)
+				.setParameter("ids", ids)
+				.getResultStream()
+				.collect(Collectors.toMap(Post::getId, Function.identity()));
+		return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+	}
+
+	/**
+	 * Resolves for a whole page of posts which ones the user liked, bookmarked and voted on, with one
+	 * indexed lookup on {@code post_likes}, {@code post_bookmarks} and {@code poll_vote} instead of
+	 * loading the like and bookmark collections of every post.
+	 */
+	@SuppressWarnings("unchecked")
+	public PostViewerState findViewerState(UUID userId, Collection<UUID> postIds) {
+		if (userId == null || postIds.isEmpty()) {
+			return PostViewerState.NONE;
+		}
+		List<Object[]> rows = em.createNativeQuery("""
+				SELECT l.post_id, 'LIKED', NULL FROM post_likes l
+				WHERE l.user_id = :userId AND l.post_id IN (:postIds)
+				UNION ALL
+				SELECT b.post_id, 'BOOKMARKED', NULL FROM post_bookmarks b
+				WHERE b.user_id = :userId AND b.post_id IN (:postIds)
+				UNION ALL
+				SELECT v.post_id, 'VOTED', v.option_text FROM poll_vote v
+				WHERE v.user_id = :userId AND v.post_id IN (:postIds)
+				""")
 				.setParameter("userId", userId)
-				.setFirstResult(offset)
-				.setMaxResults(limit)
+				.setParameter("postIds", postIds)
 				.getResultList();
+		Set<UUID> liked = new HashSet<>();
+		Set<UUID> bookmarked = new HashSet<>();
+		Map<UUID, String> votes = new HashMap<>();
+		for (Object[] row : rows) {
+			UUID postId = (UUID) row[0];
+			switch ((String) row[1]) {
+				case "LIKED" -> liked.add(postId);
+				case "BOOKMARKED" -> bookmarked.add(postId);
+				default -> votes.put(postId, (String) row[2]);
+			}
+		}
+		return new PostViewerState(liked, bookmarked, votes);
 	}
 
-	public boolean hasUserLikedPost(UUID postId, UUID userId) {
-		Long count = em.createQuery("""
-				SELECT COUNT(p)
-				FROM Post p
-				JOIN p.likedBy u
-				WHERE p.id = :postId AND u.id = :userId
-				""", Long.class)
+	/**
+	 * Records a like unless the user already liked the post.
+	 *
+	 * @return {@code true} if a row was inserted
+	 */
+	public boolean insertLike(UUID postId, UUID userId) {
+		return em.createNativeQuery("""
+				INSERT INTO post_likes (post_id, user_id) VALUES (:postId, :userId)
+				ON CONFLICT DO NOTHING
+				""")
 				.setParameter("postId", postId)
 				.setParameter("userId", userId)
-				.getSingleResult();
-		return count > 0;
+				.executeUpdate() > 0;
 	}
 
-	public boolean hasUserBookmarkedPost(UUID postId, UUID userId) {
-		Long count = em.createQuery("""
-				SELECT COUNT(p)
-				FROM Post p
-				JOIN p.bookmarkedBy u
-				WHERE p.id = :postId AND u.id = :userId
-				""", Long.class)
+	/**
+	 * @return {@code true} if a like was removed
+	 */
+	public boolean deleteLike(UUID postId, UUID userId) {
+		return em.createNativeQuery("DELETE FROM post_likes WHERE post_id = :postId AND user_id = :userId")
 				.setParameter("postId", postId)
 				.setParameter("userId", userId)
-				.getSingleResult();
-		return count > 0;
+				.executeUpdate() > 0;
+	}
+
+	/**
+	 * Records a bookmark unless the user already bookmarked the post.
+	 *
+	 * @return {@code true} if a row was inserted
+	 */
+	public boolean insertBookmark(UUID postId, UUID userId) {
+		return em.createNativeQuery("""
+				INSERT INTO post_bookmarks (post_id, user_id) VALUES (:postId, :userId)
+				ON CONFLICT DO NOTHING
+				""")
+				.setParameter("postId", postId)
+				.setParameter("userId", userId)
+				.executeUpdate() > 0;
+	}
+
+	/**
+	 * @return {@code true} if a bookmark was removed
+	 */
+	public boolean deleteBookmark(UUID postId, UUID userId) {
+		return em.createNativeQuery("DELETE FROM post_bookmarks WHERE post_id = :postId AND user_id = :userId")
+				.setParameter("postId", postId)
+				.setParameter("userId", userId)
+				.executeUpdate() > 0;
+	}
+
+	/**
+	 * Records a user's vote in a post's poll unless the user already voted in it.
+	 *
+	 * @return {@code true} if a row was inserted
+	 */
+	public boolean insertPollVote(UUID postId, UUID userId, String option) {
+		return em.createNativeQuery("""
+				INSERT INTO poll_vote (post_id, user_id, option_text, voted_at)
+				VALUES (:postId, :userId, :option, :votedAt)
+				ON CONFLICT DO NOTHING
+				""")
+				.setParameter("postId", postId)
+				.setParameter("userId", userId)
+				.setParameter("option", option)
+				.setParameter("votedAt", LocalDateTime.now())
+				.executeUpdate() > 0;
+	}
+
+	/**
+	 * @return the option the user voted for in the post's poll, or {@code null} if they did not vote
+	 */
+	public String findPollVote(UUID postId, UUID userId) {
+		List<?> result = em.createNativeQuery("""
+				SELECT option_text FROM poll_vote WHERE post_id = :postId AND user_id = :userId
+				""")
+				.setParameter("postId", postId)
+				.setParameter("userId", userId)
+				.getResultList();
+		return result.isEmpty() ? null : (String) result.get(0);
+	}
+
+	/**
+	 * Atomically adds one vote to a poll option. Only the option's row is locked, so votes for
+	 * different options of the same poll never wait for each other.
+	 *
+	 * @return {@code false} if the post has no poll option with that text
+	 */
+	public boolean incrementPollVotes(UUID postId, String option) {
+		return em.createNativeQuery("""
+				UPDATE post_poll_options SET votes = votes + 1
+				WHERE post_id = :postId AND option_text = :option
+				""")
+				.setParameter("postId", postId)
+				.setParameter("option", option)
+				.executeUpdate() > 0;
+	}
+
+	/**
+	 * Atomically adds {@code delta} to the post's like counter without loading the post.
+	 */
+	public void adjustLikes(UUID postId, int delta) {
+		em.createNativeQuery("UPDATE post SET likes = likes + :delta, hot_score_dirty = true WHERE id = :id")
+				.setParameter("delta", delta)
+				.setParameter("id", postId)
+				.executeUpdate();
+	}
+
+	/**
+	 * Atomically adds {@code delta} to the post's bookmark counter without loading the post.
+	 */
+	public void adjustBookmarks(UUID postId, int delta) {
+		em.createNativeQuery("UPDATE post SET bookmarks = bookmarks + :delta, hot_score_dirty = true WHERE id = :id")
+				.setParameter("delta", delta)
+				.setParameter("id", postId)
+				.executeUpdate();
+	}
+
+	/**
+	 * Atomically adds {@code delta} to the post's comment counter without loading the post.
+	 */
+	public void adjustComments(UUID postId, int delta) {
+		em.createNativeQuery("UPDATE post SET comments = comments + :delta, hot_score_dirty = true WHERE id = :id")
+				.setParameter("delta", delta)
+				.setParameter("id", postId)
+				.executeUpdate();
+	}
+
+	/**
+	 * Adds buffered share increments to many posts with one JDBC batch.
+	 *
+	 * @param deltas
+	 *     number of new shares, keyed by post ID
+	 */
+	public void addShares(Map<UUID, Long> deltas) {
+		em.unwrap(Session.class).doWork(connection -> {
+			try (PreparedStatement statement = connection
+					.prepareStatement("UPDATE post SET shares = shares + ?, hot_score_dirty = true WHERE id = ?")) {
+				for (Map.Entry<UUID, Long> entry : deltas.entrySet()) {
+					statement.setLong(1, entry.getValue());
+					statement.setObject(2, entry.getKey());
+					statement.addBatch();
+				}
+				statement.executeBatch();
+			}
+		});
+	}
+
+	/**
+	 * Ranks the posts of the user's clubs against a full-text query over their content. Matching
+	 * goes through the GIN-indexed {@code search_vector} column and the {@code member} join limits
+	 * the search, like the feed, to posts published in the user's clubs since the user joined them.
+	 * Results are ordered by {@code (rank, id)} descending and continue after the given keyset.
+	 *
+	 * @param tsQuery
+	 *     {@code tsquery} expression, see {@link ClubRepository#toPrefixTsQuery(String)}
+	 * @param afterRank
+	 *     rank of the last hit of the previous page, {@code null} for the first page
+	 * @param afterId
+	 *     ID of the last hit of the previous page
+	 */
+	@SuppressWarnings("unchecked")
+	public List<PostSearchHit> search(UUID userId, String tsQuery, Float afterRank, UUID afterId, int size) {
+		String keyset = afterRank != null ? "WHERE (h.rank, h.id) < (:afterRank, :afterId)" : "";
+		var query = em.createNativeQuery("""
+				SELECT h.id, h.rank
+				FROM (
+					SELECT p.id, ts_rank(p.search_vector, query) AS rank
+					FROM post p
+					JOIN member m ON m.club_id = p.club_id AND m.user_id = :userId,
+						to_tsquery('simple', :tsQuery) query
+					WHERE p.search_vector @@ query AND p.time >= m.joined_at
+				) h
+				%s
+				ORDER BY h.rank DESC, h.id DESC
+				""".formatted(keyset))
+				.setParameter("userId", userId)
+				.setParameter("tsQuery", tsQuery)
+				.setMaxResults(size);
+		if (afterRank != null) {
+			query.setParameter("afterRank", afterRank);
+			query.setParameter("afterId", afterId);
+		}
+		List<Object[]> rows = query.getResultList();
+		return rows.stream()
+				.map(row -> new PostSearchHit((UUID) row[0], ((Number) row[1]).floatValue()))
+				.toList();
 	}
 
 	public List<Post> findBookmarkedPostsByUser(UUID userId, int offset, int limit) {
@@ -88,9 +303,75 @@ public class PostRepository {
 				.getResultList();
 	}
 
+	/**
+	 * Loads one page of a club's posts ordered by the precomputed {@code hot_score}, which the
+	 * {@code idx_post_club_hot} index serves without sorting.
+	 */
+	public List<Post> findByClubHot(UUID clubId, int offset, int limit) {
+		return em.createQuery("""
+				SELECT p
+				FROM Post p
+				WHERE p.club.id = :clubId
+				ORDER BY p.hotScore DESC, p.id
+				""", Post.class)
+				.setParameter("clubId", clubId)
+				.setFirstResult(offset)
+				.setMaxResults(limit)
+				.getResultList();
+	}
+
+	/**
+	 * Recomputes the {@code hot_score} of up to {@code batchSize} posts whose counters changed since
+	 * the last run. Rows locked by a concurrent counter update are skipped and picked up next time.
+	 *
+	 * @return the club of every updated post, one entry per post
+	 */
+	@SuppressWarnings("unchecked")
+	public List<UUID> refreshHotScores(int batchSize) {
+		return em.createNativeQuery("""
+				WITH refreshed AS (
+					UPDATE post
+					SET hot_score = post_hot_score(likes, comments, bookmarks, shares, time),
+						hot_score_dirty = false
+					WHERE id IN (
+						SELECT id FROM post
+						WHERE hot_score_dirty
+						LIMIT :batchSize
+						FOR UPDATE SKIP LOCKED)
+					RETURNING club_id
+				)
+				SELECT club_id FROM refreshed
+				""", UUID.class)
+				.setParameter("batchSize", batchSize)
+				.getResultList();
+	}
+
+	/**
+	 * @return the distinct clubs owning the given posts
+	 */
+	public List<UUID> findClubIds(Collection<UUID> postIds) {
+		if (postIds.isEmpty()) {
+			return List.of();
+		}
+		return em.createQuery("SELECT DISTINCT p.club.id FROM Post p WHERE p.id IN :ids", UUID.class)
+				.setParameter("ids", postIds)
+				.getResultList();
+	}
+
 	public long countPostsByAuthor(UUID authorId) {
 		return em.createQuery("SELECT COUNT(p) FROM Post p WHERE p.author.id = :authorId", Long.class)
 				.setParameter("authorId", authorId)
 				.getSingleResult();
 	}
+
+	public UUID findClubId(UUID postId) {
+		List<UUID> result = em.createQuery("""
+				SELECT p.club.id
+				FROM Post p
+				WHERE p.id = :id
+				""", UUID.class)
+				.setParameter("id", postId)
+				.getResultList();
+		return result.isEmpty() ? null : result.get(0);
+	}
 }
@@ -0,0 +1,10 @@
+package com.clubhub.repository;
+
+import java.util.UUID;
+
+/**
+ * A post matching a full-text search together with its {@code ts_rank}, which is also the sort key
+ * of the search's keyset pagination.
+ */
+public record PostSearchHit(UUID postId, float rank) {
+}
@@ -0,0 +1,33 @@
+package com.clubhub.repository;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * What one user has done to a page of posts: which of them they liked and which they bookmarked,
+ * and which option they picked in each poll they voted in.
+ */
+public record PostViewerState(
+		Set<UUID> likedPostIds,
+		Set<UUID> bookmarkedPostIds,
+		Map<UUID, String> pollVotes) {
+
+	/** State of an anonymous viewer, who has neither liked, bookmarked nor voted on anything. */
+	public static final PostViewerState NONE = new PostViewerState(Set.of(), Set.of(), Map.of());
+
+	public boolean liked(UUID postId) {
+		return likedPostIds.contains(postId);
+	}
+
+	public boolean bookmarked(UUID postId) {
+		return bookmarkedPostIds.contains(postId);
+	}
+
+	/**
+	 * @return the option the viewer voted for in the post's poll, or {@code null} if they did not vote
+	 */
+	public String votedOption(UUID postId) {
+		return pollVotes.get(postId);
+	}
+}
@@ -72,4 +72,15 @@ public class ReplyRepository {
 			em.remove(r);
 		}
 	}
+
+	public UUID findClubId(UUID replyId) {
+		List<UUID> result = em.createQuery("""
+				SELECT r.thread.club.id
+				FROM Reply r
+				WHERE r.id = :id
+				""", UUID.class)
+				.setParameter("id", replyId)
+				.getResultList();
+		return result.isEmpty() ? null : result.get(0);
+	}
 }
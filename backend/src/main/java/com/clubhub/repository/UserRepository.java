@@ -1,7 +1,10 @@
 package com.clubhub.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -49,6 +52,20 @@ public class UserRepository {
 		}
 	}
 
+	/**
+	 * Resolves a batch of emails to user IDs with one query. Emails without a user are missing from
+	 * the result.
+	 */
+	public Map<String, UUID> findIdsByEmails(Collection<String> emails) {
+		if (emails.isEmpty()) {
+			return Map.of();
+		}
+		return em.createQuery("SELECT u.email, u.id FROM User u WHERE u.email IN :emails", Object[].class)
+				.setParameter("emails", emails)
+				.getResultStream()
+				.collect(Collectors.toMap(row -> (String) row[0], row -> (UUID) row[1]));
+	}
+
 	public void save(User user) {
 		em.persist(user);
 	}
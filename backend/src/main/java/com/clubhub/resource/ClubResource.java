@@ -1,5 +1,6 @@
 package com.clubhub.resource;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.UUID;
 
@@ -17,17 +18,24 @@ import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.container.ContainerRequestContext;
 import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 
+import com.clubhub.entity.MemberRole;
+import com.clubhub.entity.PostSort;
 import com.clubhub.entity.Preference;
 import com.clubhub.entity.dto.ActionResponseDTO;
 import com.clubhub.entity.dto.ClubDTO;
 import com.clubhub.entity.dto.ClubListDTO;
+import com.clubhub.entity.dto.ClubSuggestionDTO;
 import com.clubhub.entity.dto.EventDTO;
 import com.clubhub.entity.dto.ForumThreadDTO;
 import com.clubhub.entity.dto.MemberDTO;
+import com.clubhub.entity.dto.MemberImportDTO;
+import com.clubhub.entity.dto.MemberListDTO;
 import com.clubhub.entity.dto.PostDTO;
 
 import org.jboss.resteasy.reactive.ResponseStatus;
+import org.jboss.resteasy.reactive.RestResponse;
 
 @Path("/api/clubs")
 @Produces(MediaType.APPLICATION_JSON)
@@ -40,7 +48,16 @@ public interface ClubResource {
 			@QueryParam("interest") Preference interest,
 			@QueryParam("category") String category, @QueryParam("name") String name,
 			@QueryParam("minMembers") Integer minMembers,
-			@QueryParam("maxMembers") Integer maxMembers);
+			@QueryParam("maxMembers") Integer maxMembers,
+			@QueryParam("cursor") String cursor,
+			@QueryParam("q") String q,
+			@QueryParam("includeTotal") @DefaultValue("true") boolean includeTotal,
+			@Context ContainerRequestContext ctx);
+
+	@GET
+	@Path("/suggest")
+	List<ClubSuggestionDTO> suggest(@QueryParam("prefix") String prefix,
+			@QueryParam("limit") @DefaultValue("10") int limit);
 
 	@GET
 	@Path("/{id}")
@@ -72,6 +89,21 @@ public interface ClubResource {
 	@Path("/{clubId}/leave")
 	ActionResponseDTO leaveClub(@PathParam("clubId") UUID clubId, @Context ContainerRequestContext ctx);
 
+	@GET
+	@Path("/{clubId}/members")
+	MemberListDTO getMembers(@PathParam("clubId") UUID clubId,
+			@QueryParam("role") MemberRole role,
+			@QueryParam("prefix") String prefix,
+			@QueryParam("cursor") String cursor,
+			@QueryParam("size") @DefaultValue("20") int size,
+			@Context ContainerRequestContext ctx);
+
+	@POST
+	@Path("/{clubId}/members/import")
+	@Consumes({ "text/csv", MediaType.TEXT_PLAIN })
+	MemberImportDTO importMembers(@PathParam("clubId") UUID clubId, InputStream csv,
+			@Context ContainerRequestContext ctx);
+
 	@PUT
 	@Path("/{clubId}/members/{memberId}/role")
 	ActionResponseDTO updateRole(@PathParam("clubId") UUID clubId, @PathParam("memberId") UUID memberId, MemberDTO dto,
@@ -92,10 +124,12 @@ public interface ClubResource {
 
 	@GET
 	@Path("/{clubId}/posts")
-	List<PostDTO> getClubPosts(@PathParam("clubId") UUID clubId,
+	RestResponse<List<PostDTO>> getClubPosts(@PathParam("clubId") UUID clubId,
 			@QueryParam("offset") @DefaultValue("0") int offset,
 			@QueryParam("limit") @DefaultValue("10") int limit,
-			@Context ContainerRequestContext ctx);
+			@QueryParam("sort") @DefaultValue("new") PostSort sort,
+			@Context ContainerRequestContext ctx,
+			@Context Request request);
 
 	@POST
 	@Path("/{clubId}/posts")
@@ -2,47 +2,68 @@ package com.clubhub.resource;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URLConnection;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import jakarta.enterprise.context.RequestScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.container.ContainerRequestContext;
 import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.Request;
 
 import com.clubhub.entity.Club;
 import com.clubhub.entity.Event;
-import com.clubhub.entity.Member;
 import com.clubhub.entity.MemberRole;
+import com.clubhub.entity.Post;
+import com.clubhub.entity.PostSort;
 import com.clubhub.entity.Preference;
 import com.clubhub.entity.dto.ActionResponseDTO;
 import com.clubhub.entity.dto.ClubDTO;
 import com.clubhub.entity.dto.ClubListDTO;
+import com.clubhub.entity.dto.ClubSuggestionDTO;
 import com.clubhub.entity.dto.EventDTO;
 import com.clubhub.entity.dto.ForumThreadDTO;
 import com.clubhub.entity.dto.MemberDTO;
+import com.clubhub.entity.dto.MemberImportDTO;
+import com.clubhub.entity.dto.MemberListDTO;
 import com.clubhub.entity.dto.PostDTO;
 import com.clubhub.entity.mapper.ClubMapper;
 import com.clubhub.entity.mapper.EventMapper;
 import com.clubhub.entity.mapper.ForumThreadMapper;
+import com.clubhub.entity.mapper.MemberMapper;
 import com.clubhub.entity.mapper.PostMapper;
 import com.clubhub.exception.ClubHubErrorCode;
 import com.clubhub.exception.ErrorPayload;
 import com.clubhub.exception.NotFoundException;
-import com.clubhub.exception.ValidationException;
+import com.clubhub.repository.ClubSummary;
+import com.clubhub.repository.ClubSummaryPage;
+import com.clubhub.repository.MemberSummary;
+import com.clubhub.repository.PostViewerState;
+import com.clubhub.security.RequiresClubRole;
 import com.clubhub.service.ClubService;
+import com.clubhub.service.ContentTagService;
 import com.clubhub.service.EventService;
 import com.clubhub.service.ForumThreadService;
+import com.clubhub.service.MemberImportResult;
+import com.clubhub.service.MembershipService;
+import com.clubhub.service.PageCursor;
 import com.clubhub.service.PostService;
 import com.clubhub.service.UserService;
 
+import org.jboss.resteasy.reactive.RestResponse;
+
 @RequestScoped
 public class ClubResourceImpl implements ClubResource {
 
 	@Inject
 	ClubService clubService;
 
+	@Inject
+	MembershipService membershipService;
+
 	@Inject
 	PostService postService;
 
@@ -55,50 +76,106 @@ public class ClubResourceImpl implements ClubResource {
 	@Inject
 	ForumThreadService threadService;
 
+	@Inject
+	ContentTagService contentTagService;
+
 	@Override
 	public ClubListDTO getAll(int page, int size, Preference interest, String category, String name,
-			Integer minMembers, Integer maxMembers) {
-		var clubs = clubService.searchClubs(name, category, interest, minMembers, maxMembers, page, size)
-				.stream()
-				.map(ClubMapper::toSummaryDTO)
-				.toList();
+			Integer minMembers, Integer maxMembers, String cursor, String q, boolean includeTotal,
+			@Context ContainerRequestContext ctx) {
+		UUID userId = (UUID) ctx.getProperty("userId");
 		ClubListDTO dto = new ClubListDTO();
-		dto.setClubs(clubs);
-		dto.setTotalCount(clubService.getClubCount(name, category, interest, minMembers, maxMembers));
+		if (q != null && !q.isBlank()) {
+			// relevance ordering has no stable keyset, so full-text results are paged by page index
+			List<ClubSummary> summaries;
+			if (includeTotal) {
+				ClubSummaryPage result = clubService.searchClubSummariesFullTextWithTotal(q, name, category, interest,
+						minMembers, maxMembers, page, size);
+				summaries = result.summaries();
+				dto.setTotalCount(result.totalCount());
+			} else {
+				summaries = clubService.searchClubSummariesFullText(q, name, category, interest, minMembers,
+						maxMembers, page, size);
+			}
+			dto.setClubs(toSummaryDTOs(summaries, userId));
+			return dto;
+		}
+		PageCursor after = PageCursor.decode(cursor);
+		List<ClubSummary> summaries;
+		if (after != null) {
+			summaries = clubService.searchClubSummariesAfter(name, category, interest, minMembers, maxMembers, after,
+					size);
+			if (includeTotal) {
+				// the window count after a keyset predicate only covers the remaining rows
+				dto.setTotalCount(clubService.getClubCount(name, category, interest, minMembers, maxMembers));
+			}
+		} else if (includeTotal) {
+			ClubSummaryPage result = clubService.searchClubSummariesWithTotal(name, category, interest, minMembers,
+					maxMembers, page, size);
+			summaries = result.summaries();
+			dto.setTotalCount(result.totalCount());
+		} else {
+			summaries = clubService.searchClubSummaries(name, category, interest, minMembers, maxMembers, page, size);
+		}
+		dto.setClubs(toSummaryDTOs(summaries, userId));
+		if (!summaries.isEmpty() && summaries.size() == size) {
+			var last = summaries.get(summaries.size() - 1);
+			dto.setNextCursor(new PageCursor(last.name(), last.id()).encode());
+		}
 		return dto;
 	}
 
+	private List<ClubDTO> toSummaryDTOs(List<ClubSummary> summaries, UUID userId) {
+		Set<UUID> joined = membershipService.joinedClubIds(userId,
+				summaries.stream().map(ClubSummary::id).toList());
+		return summaries.stream()
+				.map(summary -> ClubMapper.toSummaryDTO(summary, joined.contains(summary.id())))
+				.toList();
+	}
+
+	@Override
+	public List<ClubSuggestionDTO> suggest(String prefix, int limit) {
+		return clubService.suggestClubs(prefix, limit).stream()
+				.map(s -> new ClubSuggestionDTO(s.id(), s.name()))
+				.toList();
+	}
+
 	@Override
 	public ClubDTO getById(UUID id, @Context ContainerRequestContext ctx) {
 		Club club = clubService.getClubById(id);
 		UUID userId = (UUID) ctx.getProperty("userId");
-		boolean isMember = club.getMembersList().stream()
-				.anyMatch(m -> m.getUser() != null && m.getUser().getId().equals(userId));
-		if (isMember) {
-			return ClubMapper.toDTO(club, userId);
-		}
-		return ClubMapper.toSummaryDTO(club);
+		ClubDTO dto = ClubMapper.toSummaryDTO(club);
+		dto.setJoined(membershipService.isMember(club.getId(), userId));
+		return dto;
 	}
 
 	@Override
 	public ClubDTO create(ClubDTO clubDto, @Context ContainerRequestContext ctx) {
 		UUID userId = (UUID) ctx.getProperty("userId");
 		Club created = clubService.createClub(ClubMapper.toEntity(clubDto), userId);
-		return ClubMapper.toDTO(created);
+		ClubDTO dto = ClubMapper.toSummaryDTO(created);
+		dto.setJoined(true);
+		return dto;
 	}
 
 	@Override
+	@RequiresClubRole(value = MemberRole.ADMIN, pathParam = "id")
 	public ClubDTO update(UUID id, ClubDTO clubDto, @Context ContainerRequestContext ctx) {
 		UUID userId = (UUID) ctx.getProperty("userId");
 		Club updated = clubService.updateClub(id, ClubMapper.toEntity(clubDto), userId);
-		return ClubMapper.toDTO(updated);
+		ClubDTO dto = ClubMapper.toSummaryDTO(updated);
+		dto.setJoined(true);
+		return dto;
 	}
 
 	@Override
+	@RequiresClubRole(value = MemberRole.ADMIN, pathParam = "id")
 	public ClubDTO updateAvatar(UUID id, byte[] avatar, String contentType, @Context ContainerRequestContext ctx) {
 		UUID userId = (UUID) ctx.getProperty("userId");
 		clubService.updateAvatar(id, avatar, contentType, userId);
-		return ClubMapper.toDTO(clubService.getClubById(id));
+		ClubDTO dto = ClubMapper.toSummaryDTO(clubService.getClubById(id));
+		dto.setJoined(true);
+		return dto;
 	}
 
 	@Override
@@ -122,6 +199,33 @@ public class ClubResourceImpl implements ClubResource {
 	}
 
 	@Override
+	@RequiresClubRole
+	public MemberListDTO getMembers(UUID clubId, MemberRole role, String prefix, String cursor, int size,
+			@Context ContainerRequestContext ctx) {
+		List<MemberSummary> members = clubService.getMemberSummaries(clubId, role, prefix,
+				PageCursor.decode(cursor), size);
+		MemberListDTO dto = new MemberListDTO();
+		dto.setMembers(members.stream().map(MemberMapper::toDTO).toList());
+		if (!members.isEmpty() && members.size() == size) {
+			var last = members.get(members.size() - 1);
+			dto.setNextCursor(PageCursor.of(last.joinedAt(), last.id()).encode());
+		}
+		return dto;
+	}
+
+	@Override
+	@RequiresClubRole(MemberRole.ADMIN)
+	public MemberImportDTO importMembers(UUID clubId, InputStream csv, @Context ContainerRequestContext ctx) {
+		MemberImportResult result = clubService.importMembers(clubId, csv);
+		MemberImportDTO dto = new MemberImportDTO();
+		dto.setImported(result.imported());
+		dto.setAlreadyMembers(result.alreadyMembers());
+		dto.setUnknownEmails(result.unknownEmails());
+		return dto;
+	}
+
+	@Override
+	@RequiresClubRole(MemberRole.ADMIN)
 	public ActionResponseDTO updateRole(UUID clubId, UUID memberId, MemberDTO dto,
 			@Context ContainerRequestContext ctx) {
 		UUID userId = (UUID) ctx.getProperty("userId");
@@ -130,27 +234,17 @@ public class ClubResourceImpl implements ClubResource {
 	}
 
 	@Override
+	@RequiresClubRole
 	public List<ForumThreadDTO> getClubThreads(UUID clubId, int offset, int limit,
 			@Context ContainerRequestContext ctx) {
-		var club = clubService.getClubById(clubId);
 		UUID userId = (UUID) ctx.getProperty("userId");
-		boolean isMember = club.getMembersList().stream()
-				.anyMatch(m -> m.getUser() != null && m.getUser().getId().equals(userId));
-		if (!isMember) {
-			throw new ValidationException(ErrorPayload.builder()
-					.errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
-					.title("User not a member")
-					.details("User must be a member of the club to view threads.")
-					.messageParameter("clubId", clubId.toString())
-					.messageParameter("userId", userId.toString())
-					.build());
-		}
 		return threadService.getThreadsForClub(clubId, offset, limit).stream()
 				.map(t -> ForumThreadMapper.toDTO(t, userId))
 				.toList();
 	}
 
 	@Override
+	@RequiresClubRole
 	public ForumThreadDTO createThread(UUID clubId, ForumThreadDTO dto,
 			@Context ContainerRequestContext ctx) {
 		UUID userId = (UUID) ctx.getProperty("userId");
@@ -159,60 +253,38 @@ public class ClubResourceImpl implements ClubResource {
 	}
 
 	@Override
-	public List<PostDTO> getClubPosts(UUID clubId, int offset, int limit, @Context ContainerRequestContext ctx) {
-		var club = clubService.getClubById(clubId);
+	@RequiresClubRole
+	public RestResponse<List<PostDTO>> getClubPosts(UUID clubId, int offset, int limit, PostSort sort,
+			@Context ContainerRequestContext ctx, @Context Request request) {
 		UUID userId = (UUID) ctx.getProperty("userId");
-		boolean isMember = club.getMembersList().stream()
-				.anyMatch(m -> m.getUser() != null && m.getUser().getId().equals(userId));
-		if (!isMember) {
-			throw new ValidationException(ErrorPayload.builder()
-					.errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
-					.title("User not a member")
-					.details("User must be a member of the club to view posts.")
-					.messageParameter("clubId", clubId.toString())
-					.messageParameter("userId", userId.toString())
-					.build());
-		}
-		return postService.getPostsForClub(clubId, offset, limit).stream()
-				.map(p -> PostMapper.toDTO(p, userId))
-				.toList();
+		String tag = contentTagService.clubPostsTag(clubId, userId, sort, offset, limit);
+		return ConditionalGet.respond(request, tag, () -> {
+			List<Post> posts = postService.getPostsForClub(clubId, sort, offset, limit);
+			PostViewerState viewer = postService.getViewerState(userId, posts.stream().map(Post::getId).toList());
+			return posts.stream().map(p -> PostMapper.toDTO(p, viewer)).toList();
+		});
+	}
+
+	private PostDTO toPostDTO(Post post, UUID userId) {
+		return PostMapper.toDTO(post, postService.getViewerState(userId, List.of(post.getId())));
 	}
 
 	@Override
+	@RequiresClubRole(MemberRole.MODERATOR)
 	public PostDTO createPost(UUID clubId, PostDTO dto, @Context ContainerRequestContext ctx) {
 		UUID userId = (UUID) ctx.getProperty("userId");
 		var user = userService.getUserById(userId);
-		var club = clubService.getClubById(clubId);
-		Member membership = club.getMembersList().stream()
-				.filter(m -> m.getUser() != null && m.getUser().getId().equals(userId))
-				.findFirst().orElse(null);
-		if (membership == null) {
-			throw new ValidationException(ErrorPayload.builder()
-					.errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
-					.title("User not a member")
-					.details("User must be a member of the club to create posts.")
-					.messageParameter("clubId", clubId.toString())
-					.messageParameter("userId", userId.toString())
-					.build());
-		}
-		if (membership.getRole() == MemberRole.MEMBER) {
-			throw new ValidationException(ErrorPayload.builder()
-					.errorCode(ClubHubErrorCode.INSUFFICIENT_PERMISSIONS)
-					.title("Insufficient permissions")
-					.details("Only moderators and admins can create posts.")
-					.messageParameter("clubId", clubId.toString())
-					.messageParameter("userId", userId.toString())
-					.build());
-		}
+		var club = clubService.getClubShallow(clubId);
 		var post = PostMapper.toEntity(dto, club, user);
 		if (post.getTime() == null) {
 			post.setTime(java.time.LocalDateTime.now());
 		}
 		var created = postService.createPost(clubId, post);
-		return PostMapper.toDTO(created, userId);
+		return toPostDTO(created, userId);
 	}
 
 	@Override
+	@RequiresClubRole(MemberRole.MODERATOR)
 	public PostDTO createPost(UUID clubId, PostCreateForm form, @Context ContainerRequestContext ctx) {
 		PostDTO dto = new PostDTO();
 		dto.setContent(form.getContent());
@@ -230,21 +302,23 @@ public class ClubResourceImpl implements ClubResource {
 			if (contentType != null) {
 				postService.updatePicture(created.getId(), userId, form.getPicture(), contentType);
 				var post = postService.getPost(created.getId());
-				return PostMapper.toDTO(post, userId);
+				return toPostDTO(post, userId);
 			}
 		}
 		return created;
 	}
 
 	@Override
+	@RequiresClubRole
 	public PostDTO updatePost(UUID clubId, UUID postId, PostDTO dto, @Context ContainerRequestContext ctx) {
 		UUID userId = (UUID) ctx.getProperty("userId");
 		postService.updatePost(clubId, postId, dto, userId);
 		var post = postService.getPost(postId);
-		return PostMapper.toDTO(post, userId);
+		return toPostDTO(post, userId);
 	}
 
 	@Override
+	@RequiresClubRole
 	public ActionResponseDTO deletePost(UUID clubId, UUID postId, @Context ContainerRequestContext ctx) {
 		UUID userId = (UUID) ctx.getProperty("userId");
 		postService.deletePost(clubId, postId, userId);
@@ -252,40 +326,16 @@ public class ClubResourceImpl implements ClubResource {
 	}
 
 	@Override
+	@RequiresClubRole
 	public List<EventDTO> getClubEvents(UUID clubId, int offset, int limit, @Context ContainerRequestContext ctx) {
-		var club = clubService.getClubById(clubId);
-		UUID userId = (UUID) ctx.getProperty("userId");
-		boolean isMember = club.getMembersList().stream()
-				.anyMatch(m -> m.getUser() != null && m.getUser().getId().equals(userId));
-		if (!isMember) {
-			throw new ValidationException(ErrorPayload.builder()
-					.errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
-					.title("User not a member")
-					.details("User must be a member of the club to view events.")
-					.messageParameter("clubId", clubId.toString())
-					.messageParameter("userId", userId.toString())
-					.build());
-		}
 		return eventService.getEventsForClub(clubId, offset, limit).stream()
 				.map(EventMapper::toDTO)
 				.toList();
 	}
 
 	@Override
+	@RequiresClubRole
 	public EventDTO getEvent(UUID clubId, UUID eventId, @Context ContainerRequestContext ctx) {
-		var club = clubService.getClubById(clubId);
-		UUID userId = (UUID) ctx.getProperty("userId");
-		boolean isMember = club.getMembersList().stream()
-				.anyMatch(m -> m.getUser() != null && m.getUser().getId().equals(userId));
-		if (!isMember) {
-			throw new ValidationException(ErrorPayload.builder()
-					.errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
-					.title("User not a member")
-					.details("User must be a member of the club to view events.")
-					.messageParameter("clubId", clubId.toString())
-					.messageParameter("userId", userId.toString())
-					.build());
-		}
 		Event event = eventService.getEventById(eventId);
 		if (event.getClub() == null || !event.getClub().getId().equals(clubId)) {
 			throw new NotFoundException(ErrorPayload.builder()
@@ -300,36 +350,16 @@ public class ClubResourceImpl implements ClubResource {
 	}
 
 	@Override
+	@RequiresClubRole(MemberRole.MODERATOR)
 	public EventDTO createEvent(UUID clubId, EventDTO eventDTO, @Context ContainerRequestContext ctx) {
-		var club = clubService.getClubById(clubId);
-		UUID userId = (UUID) ctx.getProperty("userId");
-		Member membership = club.getMembersList().stream()
-				.filter(m -> m.getUser() != null && m.getUser().getId().equals(userId))
-				.findFirst().orElse(null);
-		if (membership == null) {
-			throw new ValidationException(ErrorPayload.builder()
-					.errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
-					.title("User not a member")
-					.details("User must be a member of the club to create events.")
-					.messageParameter("clubId", clubId.toString())
-					.messageParameter("userId", userId.toString())
-					.build());
-		}
-		if (membership.getRole() == MemberRole.MEMBER) {
-			throw new ValidationException(ErrorPayload.builder()
-					.errorCode(ClubHubErrorCode.INSUFFICIENT_PERMISSIONS)
-					.title("Insufficient permissions")
-					.details("User lacks permission to create events.")
-					.messageParameter("clubId", clubId.toString())
-					.messageParameter("userId", userId.toString())
-					.build());
-		}
+		var club = clubService.getClubShallow(clubId);
 		Event event = EventMapper.toEntity(eventDTO, club);
 		eventService.save(event);
 		return EventMapper.toDTO(event);
 	}
 
 	@Override
+	@RequiresClubRole
 	public EventDTO updateEvent(UUID clubId, UUID eventId, EventDTO eventDTO, @Context ContainerRequestContext ctx) {
 		UUID userId = (UUID) ctx.getProperty("userId");
 		eventService.updateEvent(clubId, eventId, eventDTO, userId);
@@ -338,6 +368,7 @@ public class ClubResourceImpl implements ClubResource {
 	}
 
 	@Override
+	@RequiresClubRole
 	public ActionResponseDTO deleteEvent(UUID clubId, UUID eventId, @Context ContainerRequestContext ctx) {
 		UUID userId = (UUID) ctx.getProperty("userId");
 		eventService.deleteEvent(clubId, eventId, userId);
@@ -345,6 +376,7 @@ public class ClubResourceImpl implements ClubResource {
 	}
 
 	@Override
+	@RequiresClubRole
 	public EventDTO joinEvent(UUID clubId, UUID eventId, @Context ContainerRequestContext ctx) {
 		UUID userId = (UUID) ctx.getProperty("userId");
 		Event event = eventService.getEventById(eventId);
@@ -363,6 +395,7 @@ public class ClubResourceImpl implements ClubResource {
 	}
 
 	@Override
+	@RequiresClubRole
 	public EventDTO leaveEvent(UUID clubId, UUID eventId, @Context ContainerRequestContext ctx) {
 		UUID userId = (UUID) ctx.getProperty("userId");
 		Event event = eventService.getEventById(eventId);
@@ -21,6 +21,7 @@ import com.clubhub.entity.dto.ActionResponseDTO;
 import com.clubhub.entity.dto.CommentDTO;
 
 import org.jboss.resteasy.reactive.ResponseStatus;
+import org.jboss.resteasy.reactive.RestResponse;
 
 @Path("/api")
 @Produces(MediaType.APPLICATION_JSON)
@@ -29,9 +30,10 @@ public interface CommentResource {
 
 	@GET
 	@Path("/posts/{postId}/comments")
-	List<CommentDTO> getComments(@PathParam("postId") UUID postId,
+	RestResponse<List<CommentDTO>> getComments(@PathParam("postId") UUID postId,
 			@QueryParam("offset") @DefaultValue("0") int offset,
 			@QueryParam("limit") @DefaultValue("10") int limit,
+			@QueryParam("cursor") String cursor,
 			@Context ContainerRequestContext ctx);
 
 	@POST
@@ -12,10 +12,15 @@ import jakarta.ws.rs.container.ContainerRequestContext;
 import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 
+import com.clubhub.entity.Comment;
 import com.clubhub.entity.dto.ActionResponseDTO;
 import com.clubhub.entity.dto.CommentDTO;
 import com.clubhub.entity.mapper.CommentMapper;
+import com.clubhub.security.RequiresClubRole;
 import com.clubhub.service.CommentService;
+import com.clubhub.service.PageCursor;
+
+import org.jboss.resteasy.reactive.RestResponse;
 
 @RequestScoped
 @Path("/api")
@@ -23,17 +28,33 @@ import com.clubhub.service.CommentService;
 @Consumes(MediaType.APPLICATION_JSON)
 public class CommentResourceImpl implements CommentResource {
 
+	static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
 	@Inject
 	CommentService commentService;
 
 	@Override
-	public List<CommentDTO> getComments(UUID postId, int offset, int limit, @Context ContainerRequestContext ctx) {
+	@RequiresClubRole(pathParam = "postId")
+	public RestResponse<List<CommentDTO>> getComments(UUID postId, int offset, int limit, String cursor,
+			@Context ContainerRequestContext ctx) {
 		UUID userId = (UUID) ctx.getProperty("userId");
-		var comments = commentService.getComments(postId, userId, offset, limit);
-		return comments.stream().map(c -> CommentMapper.toDTO(c, userId)).toList();
+		PageCursor after = PageCursor.decode(cursor);
+		List<Comment> comments = after != null
+				? commentService.getComments(postId, userId, after, limit)
+				: commentService.getComments(postId, userId, offset, limit);
+		var response = RestResponse.ResponseBuilder.ok(comments.stream()
+				.map(c -> CommentMapper.toDTO(c, userId))
+				.toList());
+		// the body stays a plain list for existing clients, the cursor travels in a header
+		if (!comments.isEmpty() && comments.size() == limit) {
+			Comment last = comments.get(comments.size() - 1);
+			response.header(NEXT_CURSOR_HEADER, PageCursor.of(last.getTime(), last.getId()).encode());
+		}
+		return response.build();
 	}
 
 	@Override
+	@RequiresClubRole(pathParam = "postId")
 	public CommentDTO addComment(UUID postId, CommentDTO dto, @Context ContainerRequestContext ctx) {
 		UUID userId = (UUID) ctx.getProperty("userId");
 		var comment = commentService.addComment(postId, userId, dto.getContent());
@@ -41,6 +62,7 @@ public class CommentResourceImpl implements CommentResource {
 	}
 
 	@Override
+	@RequiresClubRole(pathParam = "commentId")
 	public CommentDTO likeComment(UUID commentId, @Context ContainerRequestContext ctx) {
 		UUID userId = (UUID) ctx.getProperty("userId");
 		commentService.like(commentId, userId);
@@ -49,6 +71,7 @@ public class CommentResourceImpl implements CommentResource {
 	}
 
 	@Override
+	@RequiresClubRole(pathParam = "commentId")
 	public CommentDTO unlikeComment(UUID commentId, @Context ContainerRequestContext ctx) {
 		UUID userId = (UUID) ctx.getProperty("userId");
 		commentService.unlike(commentId, userId);
@@ -57,6 +80,7 @@ public class CommentResourceImpl implements CommentResource {
 	}
 
 	@Override
+	@RequiresClubRole(pathParam = "commentId")
 	public CommentDTO updateComment(UUID commentId, CommentDTO dto, @Context ContainerRequestContext ctx) {
 		UUID userId = (UUID) ctx.getProperty("userId");
 		var updated = commentService.updateComment(commentId, userId, dto.getContent());
@@ -64,6 +88,7 @@ public class CommentResourceImpl implements CommentResource {
 	}
 
 	@Override
+	@RequiresClubRole(pathParam = "commentId")
 	public ActionResponseDTO deleteComment(UUID commentId, @Context ContainerRequestContext ctx) {
 		UUID userId = (UUID) ctx.getProperty("userId");
 		commentService.deleteComment(commentId, userId);
@@ -0,0 +1,44 @@
+package com.clubhub.resource;
+
+import java.util.function.Supplier;
+
+import jakarta.ws.rs.core.CacheControl;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.Request;
+
+import org.jboss.resteasy.reactive.RestResponse;
+
+/**
+ * Answers GET requests carrying {@code If-None-Match} with {@code 304 Not Modified} when the tag
+ * still matches, without building the response body.
+ */
+final class ConditionalGet {
+
+	private ConditionalGet() {
+	}
+
+	/**
+	 * @param tag
+	 *     strong ETag of the current representation, or {@code null} to skip the check
+	 * @param body
+	 *     builds the representation, only called if the client's copy is stale
+	 */
+	static <T> RestResponse<T> respond(Request request, String tag, Supplier<T> body) {
+		if (tag == null) {
+			return RestResponse.ok(body.get());
+		}
+		EntityTag entityTag = new EntityTag(tag);
+		CacheControl cacheControl = new CacheControl();
+		cacheControl.setPrivate(true);
+		cacheControl.setNoCache(true);
+		if (request.evaluatePreconditions(entityTag) != null) {
+			return RestResponse.ResponseBuilder.<T> notModified(entityTag)
+					.cacheControl(cacheControl)
+					.build();
+		}
+		return RestResponse.ResponseBuilder.ok(body.get())
+				.tag(entityTag)
+				.cacheControl(cacheControl)
+				.build();
+	}
+}
@@ -16,9 +16,7 @@ import com.clubhub.entity.Event;
 import com.clubhub.entity.dto.CsvExportDTO;
 import com.clubhub.entity.dto.EventDTO;
 import com.clubhub.entity.mapper.EventMapper;
-import com.clubhub.exception.ClubHubErrorCode;
-import com.clubhub.exception.ErrorPayload;
-import com.clubhub.exception.ValidationException;
+import com.clubhub.security.RequiresClubRole;
 import com.clubhub.service.EventService;
 
 @RequestScoped
@@ -31,38 +29,16 @@ public class EventResourceImpl implements EventResource {
 	EventService eventService;
 
 	@Override
+	@RequiresClubRole(pathParam = "eventId")
 	public EventDTO getEvent(UUID eventId, @Context ContainerRequestContext ctx) {
 		Event event = eventService.getEventById(eventId);
-		UUID userId = (UUID) ctx.getProperty("userId");
-		boolean isMember = event.getClub().getMembersList().stream()
-				.anyMatch(m -> m.getUser() != null && m.getUser().getId().equals(userId));
-		if (!isMember) {
-			throw new ValidationException(ErrorPayload.builder()
-					.errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
-					.title("User not a member")
-					.details("User must be a member of the club to view events.")
-					.messageParameter("eventId", eventId.toString())
-					.messageParameter("userId", userId.toString())
-					.build());
-		}
 		return EventMapper.toDTO(event);
 	}
 
 	@Override
+	@RequiresClubRole(pathParam = "eventId")
 	public CsvExportDTO downloadAttendees(UUID eventId, @Context ContainerRequestContext ctx) {
 		Event event = eventService.getEventById(eventId);
-		UUID userId = (UUID) ctx.getProperty("userId");
-		boolean isMember = event.getClub().getMembersList().stream()
-				.anyMatch(m -> m.getUser() != null && m.getUser().getId().equals(userId));
-		if (!isMember) {
-			throw new ValidationException(ErrorPayload.builder()
-					.errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
-					.title("User not a member")
-					.details("User must be a member of the club to download attendees.")
-					.messageParameter("eventId", eventId.toString())
-					.messageParameter("userId", userId.toString())
-					.build());
-		}
 		String csv = "name,email\n" + event.getAttendees().stream()
 				.map(u -> "%s,%s".formatted(u.getUsername(), u.getEmail()))
 				.collect(Collectors.joining("\n"));
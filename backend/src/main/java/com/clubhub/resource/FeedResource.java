@@ -1,5 +1,7 @@
 package com.clubhub.resource;
 
+import java.util.List;
+
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
@@ -9,8 +11,18 @@ import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.container.ContainerRequestContext;
 import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 
+import com.clubhub.entity.PostSort;
 import com.clubhub.entity.dto.FeedDTO;
+import com.clubhub.entity.dto.FeedItemDTO;
+import com.clubhub.entity.dto.FeedStreamDTO;
+
+import org.jboss.resteasy.reactive.RestResponse;
+import org.jboss.resteasy.reactive.RestStreamElementType;
+
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.mutiny.Multi;
 
 @Path("/api")
 @Produces(MediaType.APPLICATION_JSON)
@@ -19,9 +31,25 @@ public interface FeedResource {
 
 	@GET
 	@Path("/feed")
-	FeedDTO getFeed(@Context ContainerRequestContext ctx,
+	RestResponse<FeedDTO> getFeed(@Context ContainerRequestContext ctx, @Context Request request,
 			@QueryParam("postOffset") @DefaultValue("0") int postOffset,
 			@QueryParam("postLimit") @DefaultValue("10") int postLimit,
 			@QueryParam("eventOffset") @DefaultValue("0") int eventOffset,
-			@QueryParam("eventLimit") @DefaultValue("10") int eventLimit);
+			@QueryParam("eventLimit") @DefaultValue("10") int eventLimit,
+			@QueryParam("postCursor") String postCursor,
+			@QueryParam("eventCursor") String eventCursor,
+			@QueryParam("sort") @DefaultValue("new") PostSort sort);
+
+	@GET
+	@Path("/feed/events")
+	@Produces(MediaType.SERVER_SENT_EVENTS)
+	@RestStreamElementType(MediaType.APPLICATION_JSON)
+	@Blocking
+	Multi<List<FeedItemDTO>> streamEvents(@Context ContainerRequestContext ctx);
+
+	@GET
+	@Path("/feed/stream")
+	FeedStreamDTO getStream(@Context ContainerRequestContext ctx,
+			@QueryParam("cursor") String cursor,
+			@QueryParam("size") @DefaultValue("20") int size);
 }
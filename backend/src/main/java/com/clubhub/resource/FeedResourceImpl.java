@@ -1,18 +1,34 @@
 package com.clubhub.resource;
 
+import java.util.List;
 import java.util.UUID;
 
 import jakarta.enterprise.context.RequestScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.container.ContainerRequestContext;
 import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.Request;
 
+import com.clubhub.entity.Event;
+import com.clubhub.entity.Post;
+import com.clubhub.entity.PostSort;
 import com.clubhub.entity.dto.FeedDTO;
+import com.clubhub.entity.dto.FeedItemDTO;
+import com.clubhub.entity.dto.FeedStreamDTO;
 import com.clubhub.entity.mapper.EventMapper;
 import com.clubhub.entity.mapper.PostMapper;
+import com.clubhub.repository.PostViewerState;
+import com.clubhub.service.ContentTagService;
 import com.clubhub.service.EventService;
+import com.clubhub.service.FeedPushService;
+import com.clubhub.service.FeedService;
+import com.clubhub.service.PageCursor;
 import com.clubhub.service.PostService;
 
+import org.jboss.resteasy.reactive.RestResponse;
+
+import io.smallrye.mutiny.Multi;
+
 @RequestScoped
 public class FeedResourceImpl implements FeedResource {
 
@@ -22,17 +38,92 @@ public class FeedResourceImpl implements FeedResource {
 	@Inject
 	EventService eventService;
 
+	@Inject
+	FeedService feedService;
+
+	@Inject
+	ContentTagService contentTagService;
+
+	@Inject
+	FeedPushService feedPushService;
+
 	@Override
-	public FeedDTO getFeed(@Context ContainerRequestContext ctx, int postOffset, int postLimit,
-			int eventOffset, int eventLimit) {
+	public RestResponse<FeedDTO> getFeed(@Context ContainerRequestContext ctx, @Context Request request,
+			int postOffset, int postLimit, int eventOffset, int eventLimit, String postCursor, String eventCursor,
+			PostSort sort) {
 		UUID userId = (UUID) ctx.getProperty("userId");
+		// hot pages also change when posts age out of the window
+		String tag = contentTagService.feedTag(userId, postOffset, postLimit, eventOffset, eventLimit,
+				postCursor, eventCursor, sort, sort == PostSort.HOT ? postService.hotFeedSince() : null);
+		return ConditionalGet.respond(request, tag, () -> buildFeed(userId, postOffset, postLimit,
+				eventOffset, eventLimit, postCursor, eventCursor, sort));
+	}
+
+	private FeedDTO buildFeed(UUID userId, int postOffset, int postLimit, int eventOffset, int eventLimit,
+			String postCursor, String eventCursor, PostSort sort) {
 		FeedDTO feed = new FeedDTO();
-		feed.getPosts().addAll(postService.getFeedForUser(userId, postOffset, postLimit).stream()
-				.map(p -> PostMapper.toDTO(p, userId))
+
+		boolean hot = sort == PostSort.HOT;
+		PageCursor afterPost = hot ? null : PageCursor.decode(postCursor);
+		List<Post> posts;
+		if (hot) {
+			posts = postService.getHotFeedForUser(userId, postOffset, postLimit);
+		} else if (afterPost != null) {
+			posts = postService.getFeedForUser(userId, afterPost, postLimit);
+		} else {
+			posts = postService.getFeedForUser(userId, postOffset, postLimit);
+		}
+		PostViewerState viewer = postService.getViewerState(userId, posts.stream().map(Post::getId).toList());
+		feed.getPosts().addAll(posts.stream()
+				.map(p -> PostMapper.toDTO(p, viewer))
 				.toList());
-		feed.getEvents().addAll(eventService.getFeedForUser(userId, eventOffset, eventLimit).stream()
+		// hot pages are ranked by a moving score, so they are only addressable by offset
+		if (!hot && !posts.isEmpty() && posts.size() == postLimit) {
+			Post last = posts.get(posts.size() - 1);
+			feed.setNextPostCursor(PageCursor.of(last.getTime(), last.getId()).encode());
+		}
+
+		PageCursor afterEvent = PageCursor.decode(eventCursor);
+		List<Event> events = afterEvent != null
+				? eventService.getFeedForUser(userId, afterEvent, eventLimit)
+				: eventService.getFeedForUser(userId, eventOffset, eventLimit);
+		feed.getEvents().addAll(events.stream()
 				.map(EventMapper::toDTO)
 				.toList());
+		if (!events.isEmpty() && events.size() == eventLimit) {
+			Event last = events.get(events.size() - 1);
+			feed.setNextEventCursor(PageCursor.of(last.getCreatedAt(), last.getId()).encode());
+		}
 		return feed;
 	}
+
+	@Override
+	public Multi<List<FeedItemDTO>> streamEvents(@Context ContainerRequestContext ctx) {
+		UUID userId = (UUID) ctx.getProperty("userId");
+		return feedPushService.subscribe(userId);
+	}
+
+	@Override
+	public FeedStreamDTO getStream(@Context ContainerRequestContext ctx, String cursor, int size) {
+		UUID userId = (UUID) ctx.getProperty("userId");
+		FeedService.Page page = feedService.getStream(userId, PageCursor.decode(cursor), size);
+		PostViewerState viewer = postService.getViewerState(userId, page.items().stream()
+				.filter(item -> item.post() != null)
+				.map(item -> item.post().getId())
+				.toList());
+
+		FeedStreamDTO stream = new FeedStreamDTO();
+		for (FeedService.Item item : page.items()) {
+			FeedItemDTO dto = new FeedItemDTO();
+			dto.setType(item.entry().type());
+			dto.setPost(item.post() != null ? PostMapper.toDTO(item.post(), viewer) : null);
+			dto.setEvent(item.event() != null ? EventMapper.toDTO(item.event()) : null);
+			stream.getItems().add(dto);
+		}
+		// built from the last timeline entry, which may belong to an item deleted in the meantime
+		if (page.full()) {
+			stream.setNextCursor(PageCursor.of(page.last().ts(), page.last().itemId()).encode());
+		}
+		return stream;
+	}
 }
@@ -16,9 +16,7 @@ import com.clubhub.entity.dto.ForumThreadDTO;
 import com.clubhub.entity.dto.ReplyDTO;
 import com.clubhub.entity.mapper.ForumThreadMapper;
 import com.clubhub.entity.mapper.ReplyMapper;
-import com.clubhub.exception.ClubHubErrorCode;
-import com.clubhub.exception.ErrorPayload;
-import com.clubhub.exception.ValidationException;
+import com.clubhub.security.RequiresClubRole;
 import com.clubhub.service.ForumThreadService;
 import com.clubhub.service.ReplyService;
 
@@ -35,24 +33,15 @@ public class ForumThreadResourceImpl implements ForumThreadResource {
 	ReplyService replyService;
 
 	@Override
+	@RequiresClubRole(pathParam = "threadId")
 	public ForumThreadDTO getThread(UUID threadId, @Context ContainerRequestContext ctx) {
 		UUID userId = (UUID) ctx.getProperty("userId");
 		var thread = threadService.getThread(threadId);
-		boolean isMember = thread.getClub().getMembersList().stream()
-				.anyMatch(m -> m.getUser() != null && m.getUser().getId().equals(userId));
-		if (!isMember) {
-			throw new ValidationException(ErrorPayload.builder()
-					.errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
-					.title("User not a member")
-					.details("User must be a member of the club to view threads.")
-					.messageParameter("threadId", threadId.toString())
-					.messageParameter("userId", userId.toString())
-					.build());
-		}
 		return ForumThreadMapper.toDTO(thread, userId);
 	}
 
 	@Override
+	@RequiresClubRole(pathParam = "threadId")
 	public List<ReplyDTO> getReplies(UUID threadId, int offset, int limit, @Context ContainerRequestContext ctx) {
 		UUID userId = (UUID) ctx.getProperty("userId");
 		var replies = replyService.getReplies(threadId, userId, offset, limit);
@@ -60,6 +49,7 @@ public class ForumThreadResourceImpl implements ForumThreadResource {
 	}
 
 	@Override
+	@RequiresClubRole(pathParam = "threadId")
 	public ReplyDTO addReply(UUID threadId, ReplyDTO dto,
 			@Context ContainerRequestContext ctx) {
 		UUID userId = (UUID) ctx.getProperty("userId");
@@ -68,6 +58,7 @@ public class ForumThreadResourceImpl implements ForumThreadResource {
 	}
 
 	@Override
+	@RequiresClubRole(pathParam = "threadId")
 	public ForumThreadDTO upvoteThread(UUID threadId, @Context ContainerRequestContext ctx) {
 		UUID userId = (UUID) ctx.getProperty("userId");
 		threadService.upvote(threadId, userId);
@@ -76,6 +67,7 @@ public class ForumThreadResourceImpl implements ForumThreadResource {
 	}
 
 	@Override
+	@RequiresClubRole(pathParam = "threadId")
 	public ForumThreadDTO removeUpvoteThread(UUID threadId, @Context ContainerRequestContext ctx) {
 		UUID userId = (UUID) ctx.getProperty("userId");
 		threadService.removeUpvote(threadId, userId);
@@ -84,6 +76,7 @@ public class ForumThreadResourceImpl implements ForumThreadResource {
 	}
 
 	@Override
+	@RequiresClubRole(pathParam = "threadId")
 	public ForumThreadDTO downvoteThread(UUID threadId, @Context ContainerRequestContext ctx) {
 		UUID userId = (UUID) ctx.getProperty("userId");
 		threadService.downvote(threadId, userId);
@@ -92,6 +85,7 @@ public class ForumThreadResourceImpl implements ForumThreadResource {
 	}
 
 	@Override
+	@RequiresClubRole(pathParam = "threadId")
 	public ForumThreadDTO removeDownvoteThread(UUID threadId, @Context ContainerRequestContext ctx) {
 		UUID userId = (UUID) ctx.getProperty("userId");
 		threadService.removeDownvote(threadId, userId);
@@ -18,6 +18,8 @@ import jakarta.ws.rs.container.ContainerRequestContext;
 import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 
+import com.clubhub.entity.dto.PollVoteDTO;
+import com.clubhub.entity.dto.PostListDTO;
 import com.clubhub.entity.dto.PostDTO;
 
 @Path("/api")
@@ -29,6 +31,13 @@ public interface PostResource {
 	@Path("/posts/{postId}")
 	PostDTO getPost(@PathParam("postId") UUID postId, @Context ContainerRequestContext ctx);
 
+	@GET
+	@Path("/posts/search")
+	PostListDTO searchPosts(@Context ContainerRequestContext ctx,
+			@QueryParam("q") String q,
+			@QueryParam("cursor") String cursor,
+			@QueryParam("size") @DefaultValue("20") int size);
+
 	@GET
 	@Path("/posts/bookmarks")
 	List<PostDTO> getBookmarkedPosts(@Context ContainerRequestContext ctx,
@@ -55,6 +64,10 @@ public interface PostResource {
 	@Path("/posts/{postId}/share")
 	PostDTO sharePost(@PathParam("postId") UUID postId, @Context ContainerRequestContext ctx);
 
+	@POST
+	@Path("/posts/{postId}/poll/vote")
+	PostDTO votePoll(@PathParam("postId") UUID postId, PollVoteDTO vote, @Context ContainerRequestContext ctx);
+
 	@PUT
 	@Path("/posts/{postId}/picture")
 	@Consumes({ MediaType.APPLICATION_OCTET_STREAM, "image/png", "image/jpeg", "image/webp", "image/gif" })
@@ -12,11 +12,14 @@ import jakarta.ws.rs.container.ContainerRequestContext;
 import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 
+import com.clubhub.entity.Post;
+import com.clubhub.entity.dto.PollVoteDTO;
 import com.clubhub.entity.dto.PostDTO;
+import com.clubhub.entity.dto.PostListDTO;
 import com.clubhub.entity.mapper.PostMapper;
-import com.clubhub.exception.ClubHubErrorCode;
-import com.clubhub.exception.ErrorPayload;
-import com.clubhub.exception.ValidationException;
+import com.clubhub.repository.PostViewerState;
+import com.clubhub.security.RequiresClubRole;
+import com.clubhub.service.PageCursor;
 import com.clubhub.service.PostService;
 
 @RequestScoped
@@ -29,85 +32,113 @@ public class PostResourceImpl implements PostResource {
 	PostService postService;
 
 	@Override
+	@RequiresClubRole(pathParam = "postId")
 	public PostDTO getPost(UUID postId, @Context ContainerRequestContext ctx) {
 		UUID userId = (UUID) ctx.getProperty("userId");
 		var post = postService.getPost(postId);
-		boolean isMember = post.getClub().getMembersList().stream()
-				.anyMatch(m -> m.getUser() != null && m.getUser().getId().equals(userId));
-		if (!isMember) {
-			throw new ValidationException(ErrorPayload.builder()
-					.errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
-					.title("User not a member")
-					.details("User must be a member of the club to view posts.")
-					.messageParameter("postId", postId.toString())
-					.messageParameter("userId", userId.toString())
-					.build());
+		return toDTO(post, userId);
+	}
+
+	@Override
+	public PostListDTO searchPosts(@Context ContainerRequestContext ctx, String q, String cursor, int size) {
+		UUID userId = (UUID) ctx.getProperty("userId");
+		List<PostService.SearchHit> hits = postService.search(userId, q, PageCursor.decode(cursor), size);
+		PostListDTO dto = new PostListDTO();
+		dto.setPosts(toDTOs(hits.stream().map(PostService.SearchHit::post).toList(), userId));
+		if (!hits.isEmpty() && hits.size() == size) {
+			var last = hits.get(hits.size() - 1);
+			dto.setNextCursor(PageCursor.of(last.rank(), last.post().getId()).encode());
 		}
-		return PostMapper.toDTO(post, userId);
+		return dto;
 	}
 
 	@Override
 	public List<PostDTO> getBookmarkedPosts(@Context ContainerRequestContext ctx, int offset, int limit) {
 		UUID userId = (UUID) ctx.getProperty("userId");
-		return postService.getBookmarkedPosts(userId, offset, limit).stream()
-				.map(p -> PostMapper.toDTO(p, userId))
-				.toList();
+		return toDTOs(postService.getBookmarkedPosts(userId, offset, limit), userId);
 	}
 
 	@Override
+	@RequiresClubRole(pathParam = "postId")
 	public PostDTO likePost(UUID postId, @Context ContainerRequestContext ctx) {
 		UUID userId = (UUID) ctx.getProperty("userId");
 		postService.like(postId, userId);
 		var post = postService.getPost(postId);
-		return PostMapper.toDTO(post, userId);
+		return toDTO(post, userId);
 	}
 
 	@Override
+	@RequiresClubRole(pathParam = "postId")
 	public PostDTO unlikePost(UUID postId, @Context ContainerRequestContext ctx) {
 		UUID userId = (UUID) ctx.getProperty("userId");
 		postService.unlike(postId, userId);
 		var post = postService.getPost(postId);
-		return PostMapper.toDTO(post, userId);
+		return toDTO(post, userId);
 	}
 
 	@Override
+	@RequiresClubRole(pathParam = "postId")
 	public PostDTO bookmarkPost(UUID postId, @Context ContainerRequestContext ctx) {
 		UUID userId = (UUID) ctx.getProperty("userId");
 		postService.bookmark(postId, userId);
 		var post = postService.getPost(postId);
-		return PostMapper.toDTO(post, userId);
+		return toDTO(post, userId);
 	}
 
 	@Override
+	@RequiresClubRole(pathParam = "postId")
 	public PostDTO removeBookmarkFromPost(UUID postId, @Context ContainerRequestContext ctx) {
 		UUID userId = (UUID) ctx.getProperty("userId");
 		postService.removeBookmark(postId, userId);
 		var post = postService.getPost(postId);
-		return PostMapper.toDTO(post, userId);
+		return toDTO(post, userId);
 	}
 
 	@Override
+	@RequiresClubRole(pathParam = "postId")
 	public PostDTO sharePost(UUID postId, @Context ContainerRequestContext ctx) {
 		UUID userId = (UUID) ctx.getProperty("userId");
 		postService.share(postId, userId);
 		var post = postService.getPost(postId);
-		return PostMapper.toDTO(post, userId);
+		PostDTO dto = toDTO(post, userId);
+		dto.setShares((int) postService.getShares(post));
+		return dto;
 	}
 
 	@Override
+	@RequiresClubRole(pathParam = "postId")
+	public PostDTO votePoll(UUID postId, PollVoteDTO vote, @Context ContainerRequestContext ctx) {
+		UUID userId = (UUID) ctx.getProperty("userId");
+		postService.vote(postId, userId, vote != null ? vote.getOption() : null);
+		var post = postService.getPost(postId);
+		return toDTO(post, userId);
+	}
+
+	@Override
+	@RequiresClubRole(pathParam = "postId")
 	public PostDTO updatePicture(UUID postId, byte[] picture, String contentType,
 			@Context ContainerRequestContext ctx) {
 		UUID userId = (UUID) ctx.getProperty("userId");
 		postService.updatePicture(postId, userId, picture, contentType);
 		var post = postService.getPost(postId);
-		return PostMapper.toDTO(post, userId);
+		return toDTO(post, userId);
 	}
 
 	@Override
+	@RequiresClubRole(pathParam = "postId")
 	public PostDTO deletePicture(UUID postId, @Context ContainerRequestContext ctx) {
 		UUID userId = (UUID) ctx.getProperty("userId");
 		postService.deletePicture(postId, userId);
 		var post = postService.getPost(postId);
-		return PostMapper.toDTO(post, userId);
+		return toDTO(post, userId);
+	}
+
+	private PostDTO toDTO(Post post, UUID userId) {
+		return PostMapper.toDTO(post, postService.getViewerState(userId, List.of(post.getId())));
+	}
+
+	private List<PostDTO> toDTOs(List<Post> posts, UUID userId) {
+		PostViewerState viewer = postService.getViewerState(userId, posts.stream().map(Post::getId).toList());
+		return posts.stream().map(p -> PostMapper.toDTO(p, viewer)).toList();
 	}
 }
@@ -14,6 +14,7 @@ import jakarta.ws.rs.core.MediaType;
 import com.clubhub.entity.dto.ActionResponseDTO;
 import com.clubhub.entity.dto.ReplyDTO;
 import com.clubhub.entity.mapper.ReplyMapper;
+import com.clubhub.security.RequiresClubRole;
 import com.clubhub.service.ReplyService;
 
 @RequestScoped
@@ -26,6 +27,7 @@ public class ReplyResourceImpl implements ReplyResource {
 	ReplyService replyService;
 
 	@Override
+	@RequiresClubRole(pathParam = "replyId")
 	public ReplyDTO upvoteReply(UUID replyId, @Context ContainerRequestContext ctx) {
 		UUID userId = (UUID) ctx.getProperty("userId");
 		replyService.upvote(replyId, userId);
@@ -34,6 +36,7 @@ public class ReplyResourceImpl implements ReplyResource {
 	}
 
 	@Override
+	@RequiresClubRole(pathParam = "replyId")
 	public ReplyDTO removeUpvoteReply(UUID replyId, @Context ContainerRequestContext ctx) {
 		UUID userId = (UUID) ctx.getProperty("userId");
 		replyService.removeUpvote(replyId, userId);
@@ -42,6 +45,7 @@ public class ReplyResourceImpl implements ReplyResource {
 	}
 
 	@Override
+	@RequiresClubRole(pathParam = "replyId")
 	public ReplyDTO downvoteReply(UUID replyId, @Context ContainerRequestContext ctx) {
 		UUID userId = (UUID) ctx.getProperty("userId");
 		replyService.downvote(replyId, userId);
@@ -50,6 +54,7 @@ public class ReplyResourceImpl implements ReplyResource {
 	}
 
 	@Override
+	@RequiresClubRole(pathParam = "replyId")
 	public ReplyDTO removeDownvoteReply(UUID replyId, @Context ContainerRequestContext ctx) {
 		UUID userId = (UUID) ctx.getProperty("userId");
 		replyService.removeDownvote(replyId, userId);
@@ -58,6 +63,7 @@ public class ReplyResourceImpl implements ReplyResource {
 	}
 
 	@Override
+	@RequiresClubRole(pathParam = "replyId")
 	public ReplyDTO updateReply(UUID replyId, ReplyDTO dto, @Context ContainerRequestContext ctx) {
 		UUID userId = (UUID) ctx.getProperty("userId");
 		var updated = replyService.updateReply(replyId, userId, dto.getContent());
@@ -65,6 +71,7 @@ public class ReplyResourceImpl implements ReplyResource {
 	}
 
 	@Override
+	@RequiresClubRole(pathParam = "replyId")
 	public ActionResponseDTO deleteReply(UUID replyId, @Context ContainerRequestContext ctx) {
 		UUID userId = (UUID) ctx.getProperty("userId");
 		replyService.deleteReply(replyId, userId);
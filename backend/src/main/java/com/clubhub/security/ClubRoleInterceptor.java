@@ -0,0 +1,143 @@
+package com.clubhub.security;
+
+import java.util.UUID;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+import jakarta.ws.rs.container.ContainerRequestContext;
+
+import com.clubhub.entity.MemberRole;
+import com.clubhub.exception.ClubHubErrorCode;
+import com.clubhub.exception.ErrorPayload;
+import com.clubhub.exception.NotFoundException;
+import com.clubhub.exception.ValidationException;
+import com.clubhub.repository.ClubRepository;
+import com.clubhub.repository.CommentRepository;
+import com.clubhub.repository.EventRepository;
+import com.clubhub.repository.ForumThreadRepository;
+import com.clubhub.repository.PostRepository;
+import com.clubhub.repository.ReplyRepository;
+import com.clubhub.service.MembershipService;
+
+/**
+ * Enforces {@link RequiresClubRole} before the resource method runs. The owning club is resolved
+ * with a single scalar query and the caller's role is read through {@link MembershipService}, so
+ * rejected requests never load the club.
+ */
+@RequiresClubRole
+@Interceptor
+@Priority(Interceptor.Priority.APPLICATION)
+public class ClubRoleInterceptor {
+
+	@Inject
+	MembershipService membershipService;
+
+	@Inject
+	ClubRepository clubRepository;
+
+	@Inject
+	PostRepository postRepository;
+
+	@Inject
+	EventRepository eventRepository;
+
+	@Inject
+	ForumThreadRepository threadRepository;
+
+	@Inject
+	CommentRepository commentRepository;
+
+	@Inject
+	ReplyRepository replyRepository;
+
+	@AroundInvoke
+	Object checkRole(InvocationContext ic) throws Exception {
+		RequiresClubRole binding = ic.getMethod().getAnnotation(RequiresClubRole.class);
+		if (binding == null) {
+			binding = ic.getMethod().getDeclaringClass().getAnnotation(RequiresClubRole.class);
+		}
+		ContainerRequestContext ctx = requestContext(ic);
+		String param = binding.pathParam();
+		UUID id = UUID.fromString(ctx.getUriInfo().getPathParameters().getFirst(param));
+		UUID userId = (UUID) ctx.getProperty("userId");
+
+		UUID clubId = resolveClubId(param, id);
+		if (clubId == null) {
+			throw notFound(param, id);
+		}
+		MemberRole role = membershipService.getRole(clubId, userId);
+		if (role == null) {
+			if (clubId.equals(id) && !clubRepository.exists(clubId)) {
+				throw notFound(param, id);
+			}
+			throw new ValidationException(ErrorPayload.builder()
+					.errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
+					.title("User not a member")
+					.details("User must be a member of the club.")
+					.messageParameter("clubId", clubId.toString())
+					.messageParameter("userId", userId.toString())
+					.build());
+		}
+		// roles are declared from most to least privileged
+		if (role.ordinal() > binding.value().ordinal()) {
+			throw new ValidationException(ErrorPayload.builder()
+					.errorCode(ClubHubErrorCode.INSUFFICIENT_PERMISSIONS)
+					.title("Insufficient permissions")
+					.details("This action requires the %s role.".formatted(binding.value()))
+					.messageParameter("clubId", clubId.toString())
+					.messageParameter("userId", userId.toString())
+					.build());
+		}
+		return ic.proceed();
+	}
+
+	private ContainerRequestContext requestContext(InvocationContext ic) {
+		for (Object parameter : ic.getParameters()) {
+			if (parameter instanceof ContainerRequestContext ctx) {
+				return ctx;
+			}
+		}
+		throw new IllegalStateException("@RequiresClubRole method %s has no ContainerRequestContext parameter"
+				.formatted(ic.getMethod()));
+	}
+
+	private UUID resolveClubId(String param, UUID id) {
+		return switch (param) {
+			case "clubId", "id" -> id;
+			case "postId" -> postRepository.findClubId(id);
+			case "eventId" -> eventRepository.findClubId(id);
+			case "threadId" -> threadRepository.findClubId(id);
+			case "commentId" -> commentRepository.findClubId(id);
+			case "replyId" -> replyRepository.findClubId(id);
+			default -> throw new IllegalStateException("Unsupported club path parameter " + param);
+		};
+	}
+
+	private NotFoundException notFound(String param, UUID id) {
+		String errorCode = switch (param) {
+			case "postId" -> ClubHubErrorCode.POST_NOT_FOUND;
+			case "eventId" -> ClubHubErrorCode.EVENT_NOT_FOUND;
+			case "threadId" -> ClubHubErrorCode.THREAD_NOT_FOUND;
+			case "commentId", "replyId" -> ClubHubErrorCode.COMMENT_NOT_FOUND;
+			default -> ClubHubErrorCode.CLUB_NOT_FOUND;
+		};
+		String resource = switch (param) {
+			case "postId" -> "Post";
+			case "eventId" -> "Event";
+			case "threadId" -> "Thread";
+			case "commentId" -> "Comment";
+			case "replyId" -> "Reply";
+			default -> "Club";
+		};
+		return new NotFoundException(ErrorPayload.builder()
+				.errorCode(errorCode)
+				.title("%s not found".formatted(resource))
+				.details("No %s with id %s exists.".formatted(resource.toLowerCase(), id))
+				.messageParameter(param, id.toString())
+				.sourcePointer(param)
+				.build());
+	}
+}
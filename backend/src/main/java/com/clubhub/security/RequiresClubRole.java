@@ -0,0 +1,39 @@
+package com.clubhub.security;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import jakarta.enterprise.util.Nonbinding;
+import jakarta.interceptor.InterceptorBinding;
+
+import com.clubhub.entity.MemberRole;
+
+/**
+ * Requires the calling user to hold at least the given role in the club addressed by the request.
+ * <p>
+ * The club is resolved from the path parameter named by {@link #pathParam()}: {@code clubId} and
+ * {@code id} identify the club directly, while {@code postId}, {@code eventId}, {@code threadId},
+ * {@code commentId} and {@code replyId} are mapped to their owning club. The annotated method must
+ * take the {@link jakarta.ws.rs.container.ContainerRequestContext} as a parameter.
+ */
+@InterceptorBinding
+@Target({ METHOD, TYPE })
+@Retention(RUNTIME)
+public @interface RequiresClubRole {
+
+	/**
+	 * Minimum role required; {@code ADMIN} implies {@code MODERATOR} implies {@code MEMBER}.
+	 */
+	@Nonbinding
+	MemberRole value() default MemberRole.MEMBER;
+
+	/**
+	 * Name of the path parameter that identifies the club or one of its resources.
+	 */
+	@Nonbinding
+	String pathParam() default "clubId";
+}
@@ -0,0 +1,161 @@
+package com.clubhub.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+
+import com.clubhub.repository.ClubRepository;
+
+import io.quarkus.runtime.StartupEvent;
+
+/**
+ * In-memory prefix index over club names used for search-as-you-type suggestions.
+ * <p>
+ * Every word of a club name starts its own entry, so "chess" finds both "Chess Club" and
+ * "Würzburg Chess Club". Entries live in a sorted array that is swapped atomically on change:
+ * lookups are a lock-free binary search, writes copy the array, which is cheap for the number of
+ * clubs we have and rare compared to keystrokes.
+ * <p>
+ * Transactional writers fire a {@link NameChanged} event instead of calling {@link #put} or
+ * {@link #remove}, so the index only follows changes that were actually committed.
+ */
+@ApplicationScoped
+public class ClubNameIndex {
+
+	private static final int MAX_SUGGESTIONS = 50;
+
+	private static final Comparator<Entry> ORDER = Comparator.comparing(Entry::key)
+			.thenComparing(Entry::id);
+
+	@Inject
+	ClubRepository clubRepository;
+
+	private volatile Entry[] entries = new Entry[0];
+
+	@Transactional
+	void onStart(@Observes StartupEvent event) {
+		List<Entry> loaded = new ArrayList<>();
+		clubRepository.findAllNames().forEach((id, name) -> loaded.addAll(entriesFor(id, name)));
+		Entry[] sorted = loaded.toArray(Entry[]::new);
+		Arrays.sort(sorted, ORDER);
+		entries = sorted;
+	}
+
+	/**
+	 * Finds clubs that have a word in their name starting with the given prefix.
+	 *
+	 * @param prefix
+	 *     typed text, compared case- and accent-insensitively
+	 * @param limit
+	 *     maximum number of suggestions
+	 * @return matching clubs, ordered by the matched word
+	 */
+	public List<Suggestion> suggest(String prefix, int limit) {
+		String key = normalize(prefix);
+		int max = Math.min(Math.max(limit, 0), MAX_SUGGESTIONS);
+		if (key.isEmpty() || max == 0) {
+			return List.of();
+		}
+		Entry[] snapshot = entries;
+		Map<UUID, Suggestion> matches = new LinkedHashMap<>();
+		for (int i = lowerBound(snapshot, key); i < snapshot.length && matches.size() < max; i++) {
+			Entry entry = snapshot[i];
+			if (!entry.key().startsWith(key)) {
+				break;
+			}
+			matches.putIfAbsent(entry.id(), new Suggestion(entry.id(), entry.name()));
+		}
+		return List.copyOf(matches.values());
+	}
+
+	void onNameChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) NameChanged change) {
+		if (change.name() == null) {
+			remove(change.id());
+		} else {
+			put(change.id(), change.name());
+		}
+	}
+
+	/**
+	 * Adds a club to the index or replaces the entries of an existing one.
+	 */
+	public synchronized void put(UUID id, String name) {
+		List<Entry> updated = new ArrayList<>(entries.length + 4);
+		for (Entry entry : entries) {
+			if (!entry.id().equals(id)) {
+				updated.add(entry);
+			}
+		}
+		updated.addAll(entriesFor(id, name));
+		Entry[] sorted = updated.toArray(Entry[]::new);
+		Arrays.sort(sorted, ORDER);
+		entries = sorted;
+	}
+
+	/**
+	 * Removes all entries of a club from the index.
+	 */
+	public synchronized void remove(UUID id) {
+		entries = Arrays.stream(entries)
+				.filter(entry -> !entry.id().equals(id))
+				.toArray(Entry[]::new);
+	}
+
+	private static List<Entry> entriesFor(UUID id, String name) {
+		String normalized = normalize(name);
+		List<Entry> result = new ArrayList<>();
+		for (int i = 0; i < normalized.length(); i++) {
+			if (normalized.charAt(i) != ' ' && (i == 0 || normalized.charAt(i - 1) == ' ')) {
+				result.add(new Entry(normalized.substring(i), id, name));
+			}
+		}
+		return result;
+	}
+
+	private static int lowerBound(Entry[] sorted, String key) {
+		int low = 0;
+		int high = sorted.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (sorted[mid].key().compareTo(key) < 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	static String normalize(String text) {
+		if (text == null) {
+			return "";
+		}
+		String stripped = Normalizer.normalize(text, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+		return stripped.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]+", " ").trim();
+	}
+
+	private record Entry(String key, UUID id, String name) {
+	}
+
+	public record Suggestion(UUID id, String name) {
+	}
+
+	/**
+	 * A club was created, renamed ({@code name} is the new name) or deleted ({@code name} is
+	 * {@code null}). Applied to the index after the firing transaction commits.
+	 */
+	public record NameChanged(UUID id, String name) {
+	}
+}
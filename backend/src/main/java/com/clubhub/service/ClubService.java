@@ -1,9 +1,21 @@
 package com.clubhub.service;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
 import jakarta.inject.Inject;
 import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
@@ -18,13 +30,24 @@ import com.clubhub.exception.ErrorPayload;
 import com.clubhub.exception.NotFoundException;
 import com.clubhub.exception.ValidationException;
 import com.clubhub.repository.ClubRepository;
+import com.clubhub.repository.ClubSummary;
+import com.clubhub.repository.ClubSummaryPage;
+import com.clubhub.repository.FeedRepository;
+import com.clubhub.repository.MemberRepository;
+import com.clubhub.repository.MemberSummary;
+import com.clubhub.repository.UserRepository;
 
 @ApplicationScoped
 public class ClubService {
 
+	private static final int IMPORT_BATCH_SIZE = 500;
+
 	@Inject
 	ClubRepository clubRepository;
 
+	@Inject
+	ContentVersionBuffer contentVersions;
+
 	@Inject
 	ClubService clubService;
 
@@ -36,6 +59,24 @@ public class ClubService {
 	@Inject
 	ObjectStorageService objectStorageService;
 
+	@Inject
+	ClubNameIndex clubNameIndex;
+
+	@Inject
+	Event<ClubNameIndex.NameChanged> nameChanged;
+
+	@Inject
+	MembershipService membershipService;
+
+	@Inject
+	MemberRepository memberRepository;
+
+	@Inject
+	UserRepository userRepository;
+
+	@Inject
+	FeedRepository feedRepository;
+
 	/**
 	 * Retrieves all clubs from the repository.
 	 *
@@ -69,6 +110,150 @@ public class ClubService {
 		return clubRepository.search(name, category, interest, minMembers, maxMembers, page, size);
 	}
 
+	/**
+	 * Searches for club summaries matching the provided filters. Unlike {@link #searchClubs}, no
+	 * club collections are loaded; member, event and post counts are computed by the database.
+	 *
+	 * @param name
+	 *     optional name fragment to match
+	 * @param category
+	 *     optional category to filter by
+	 * @param interest
+	 *     optional interest to filter by
+	 * @param minMembers
+	 *     minimum number of members
+	 * @param maxMembers
+	 *     maximum number of members
+	 * @param page
+	 *     page index for pagination
+	 * @param size
+	 *     number of results per page
+	 * @return filtered list of club summaries
+	 */
+	public List<ClubSummary> searchClubSummaries(String name, String category, Preference interest,
+			Integer minMembers, Integer maxMembers, int page, int size) {
+		return clubRepository.searchSummaries(name, category, interest, minMembers, maxMembers, page, size);
+	}
+
+	/**
+	 * Retrieves the club summaries following the given cursor, ordered by name and ID.
+	 *
+	 * @param name
+	 *     optional name fragment to match
+	 * @param category
+	 *     optional category to filter by
+	 * @param interest
+	 *     optional interest to filter by
+	 * @param minMembers
+	 *     minimum number of members
+	 * @param maxMembers
+	 *     maximum number of members
+	 * @param cursor
+	 *     position of the last club of the previous page
+	 * @param size
+	 *     number of results per page
+	 * @return filtered list of club summaries after the cursor
+	 */
+	public List<ClubSummary> searchClubSummariesAfter(String name, String category, Preference interest,
+			Integer minMembers, Integer maxMembers, PageCursor cursor, int size) {
+		return clubRepository.searchSummariesAfter(name, category, interest, minMembers, maxMembers,
+				cursor.key(), cursor.id(), size);
+	}
+
+	/**
+	 * Searches for club summaries and counts all matching clubs in a single statement.
+	 *
+	 * @param name
+	 *     optional name fragment to match
+	 * @param category
+	 *     optional category to filter by
+	 * @param interest
+	 *     optional interest to filter by
+	 * @param minMembers
+	 *     minimum number of members
+	 * @param maxMembers
+	 *     maximum number of members
+	 * @param page
+	 *     page index for pagination
+	 * @param size
+	 *     number of results per page
+	 * @return the requested page and the total number of matching clubs
+	 */
+	public ClubSummaryPage searchClubSummariesWithTotal(String name, String category, Preference interest,
+			Integer minMembers, Integer maxMembers, int page, int size) {
+		return clubRepository.searchSummariesWithTotal(name, category, interest, minMembers, maxMembers, page, size);
+	}
+
+	/**
+	 * Searches club summaries by relevance to a full-text query over name, category, location and
+	 * description, combined with the regular filters.
+	 *
+	 * @param q
+	 *     free text query, every term is matched as a prefix
+	 * @param name
+	 *     optional name fragment to match
+	 * @param category
+	 *     optional category to filter by
+	 * @param interest
+	 *     optional interest to filter by
+	 * @param minMembers
+	 *     minimum number of members
+	 * @param maxMembers
+	 *     maximum number of members
+	 * @param page
+	 *     page index for pagination
+	 * @param size
+	 *     number of results per page
+	 * @return matching club summaries, best match first
+	 */
+	public List<ClubSummary> searchClubSummariesFullText(String q, String name, String category,
+			Preference interest, Integer minMembers, Integer maxMembers, int page, int size) {
+		return clubRepository.searchSummariesFullText(q, name, category, interest, minMembers, maxMembers, page,
+				size);
+	}
+
+	/**
+	 * Searches club summaries by relevance to a full-text query and counts all matching clubs in
+	 * a single statement.
+	 *
+	 * @param q
+	 *     free text query, every term is matched as a prefix
+	 * @param name
+	 *     optional name fragment to match
+	 * @param category
+	 *     optional category to filter by
+	 * @param interest
+	 *     optional interest to filter by
+	 * @param minMembers
+	 *     minimum number of members
+	 * @param maxMembers
+	 *     maximum number of members
+	 * @param page
+	 *     page index for pagination
+	 * @param size
+	 *     number of results per page
+	 * @return the requested page, best match first, and the total number of matching clubs
+	 */
+	public ClubSummaryPage searchClubSummariesFullTextWithTotal(String q, String name, String category,
+			Preference interest, Integer minMembers, Integer maxMembers, int page, int size) {
+		return clubRepository.searchSummariesFullTextWithTotal(q, name, category, interest, minMembers, maxMembers,
+				page, size);
+	}
+
+	/**
+	 * Suggests clubs whose name contains a word starting with the given prefix. Suggestions are
+	 * answered from memory and never hit the database.
+	 *
+	 * @param prefix
+	 *     typed text
+	 * @param limit
+	 *     maximum number of suggestions
+	 * @return matching clubs
+	 */
+	public List<ClubNameIndex.Suggestion> suggestClubs(String prefix, int limit) {
+		return clubNameIndex.suggest(prefix, limit);
+	}
+
 	/**
 	 * Counts all clubs in the repository.
 	 *
@@ -121,6 +306,33 @@ public class ClubService {
 		return club;
 	}
 
+	/**
+	 * Loads a club without fetching any of its collections.
+	 *
+	 * @param clubId
+	 *     the club identifier
+	 * @return the club
+	 * @throws NotFoundException
+	 *     if no club with the ID exists
+	 */
+	public Club getClubShallow(UUID clubId) {
+		Club club = em.find(Club.class, clubId);
+		if (club == null) {
+			throw clubNotFound(clubId);
+		}
+		return club;
+	}
+
+	private static NotFoundException clubNotFound(UUID clubId) {
+		return new NotFoundException(ErrorPayload.builder()
+				.errorCode(ClubHubErrorCode.CLUB_NOT_FOUND)
+				.title("Club not found")
+				.details("No club with id %s exists.".formatted(clubId))
+				.messageParameter("clubId", clubId.toString())
+				.sourcePointer("clubId")
+				.build());
+	}
+
 	/**
 	 * Creates a new club and assigns the creator as an admin.
 	 *
@@ -132,6 +344,7 @@ public class ClubService {
 	 */
 	@Transactional
 	public Club createClub(Club club, UUID creatorId) {
+		club.setMembers(1);
 		clubRepository.save(club);
 
 		User user = userService.getUserById(creatorId);
@@ -145,13 +358,13 @@ public class ClubService {
 		em.persist(member);
 
 		club.getMembersList().add(member);
-		club.setMembers(club.getMembersList().size());
 
 		user.getMemberships().add(member);
 
 		em.merge(club);
 		em.merge(user);
 
+		nameChanged.fire(new ClubNameIndex.NameChanged(club.getId(), club.getName()));
 		return club;
 	}
 
@@ -178,11 +391,8 @@ public class ClubService {
 					.sourcePointer("clubId")
 					.build());
 		}
-		Member actingMember = existing.getMembersList().stream()
-				.filter(m -> m.getUser() != null && m.getUser().getId().equals(actingUserId))
-				.findFirst()
-				.orElse(null);
-		if (actingMember == null || actingMember.getRole() != MemberRole.ADMIN) {
+		MemberRole actingRole = membershipService.getRole(existing.getId(), actingUserId);
+		if (actingRole != MemberRole.ADMIN) {
 			throw new ValidationException(ErrorPayload.builder()
 					.errorCode(ClubHubErrorCode.INSUFFICIENT_PERMISSIONS)
 					.title("Insufficient permissions")
@@ -199,16 +409,8 @@ public class ClubService {
 		existing.setInterest(updated.getInterest());
 
 		Club merged = clubRepository.update(existing);
-		// Initialize collections to avoid LazyInitializationException
-		merged.getEvents().forEach(e -> e.getAttendees().size());
-		merged.getPosts().forEach(p -> {
-			p.getCommentsList().size();
-			p.getLikedBy().size();
-			p.getBookmarkedBy().size();
-			if (p.getPoll() != null) {
-				p.getPoll().getOptions().size();
-			}
-		});
+		contentVersions.markChanged(merged.getId());
+		nameChanged.fire(new ClubNameIndex.NameChanged(merged.getId(), merged.getName()));
 		return merged;
 	}
 
@@ -227,11 +429,8 @@ public class ClubService {
 	@Transactional
 	public void updateAvatar(UUID id, byte[] avatar, String contentType, UUID actingUserId) {
 		Club existing = getClubById(id);
-		Member actingMember = existing.getMembersList().stream()
-				.filter(m -> m.getUser() != null && m.getUser().getId().equals(actingUserId))
-				.findFirst()
-				.orElse(null);
-		if (actingMember == null || actingMember.getRole() != MemberRole.ADMIN) {
+		MemberRole actingRole = membershipService.getRole(existing.getId(), actingUserId);
+		if (actingRole != MemberRole.ADMIN) {
 			throw new ValidationException(ErrorPayload.builder()
 					.errorCode(ClubHubErrorCode.INSUFFICIENT_PERMISSIONS)
 					.title("Insufficient permissions")
@@ -245,6 +444,7 @@ public class ClubService {
 		existing.setAvatarObject(stored.objectKey());
 		existing.setAvatarEtag(stored.etag());
 		clubRepository.update(existing);
+		contentVersions.markChanged(id);
 	}
 
 	/**
@@ -267,6 +467,8 @@ public class ClubService {
 					.build());
 		}
 		clubRepository.delete(id);
+		nameChanged.fire(new ClubNameIndex.NameChanged(id, null));
+		membershipService.invalidateClub(id);
 		return true;
 	}
 
@@ -280,22 +482,12 @@ public class ClubService {
 	 */
 	@Transactional
 	public void joinClub(UUID clubId, UUID userId) {
-		Club club = em.find(Club.class, clubId);
-		if (club == null) {
-			throw new NotFoundException(ErrorPayload.builder()
-					.errorCode(ClubHubErrorCode.CLUB_NOT_FOUND)
-					.title("Club not found")
-					.details("No club with id %s exists.".formatted(clubId))
-					.messageParameter("clubId", clubId.toString())
-					.sourcePointer("clubId")
-					.build());
+		if (!clubRepository.exists(clubId)) {
+			throw clubNotFound(clubId);
 		}
+		userService.getUserById(userId);
 
-		User user = userService.getUserById(userId);
-
-		boolean alreadyMember = club.getMembersList().stream()
-				.anyMatch(member -> member.getUser() != null && member.getUser().getId().equals(user.getId()));
-		if (alreadyMember) {
+		if (!memberRepository.insertIfAbsent(clubId, userId, MemberRole.MEMBER)) {
 			throw new ValidationException(ErrorPayload.builder()
 					.errorCode(ClubHubErrorCode.ALREADY_MEMBER)
 					.title("Already a member")
@@ -304,22 +496,9 @@ public class ClubService {
 					.messageParameter("userId", userId.toString())
 					.build());
 		}
-
-		Member member = new Member();
-		member.setClub(club);
-		member.setUser(user);
-		member.setRole(MemberRole.MEMBER);
-		member.setJoinedAt(java.time.LocalDateTime.now());
-
-		em.persist(member);
-
-		club.getMembersList().add(member);
-		club.setMembers(club.getMembersList().size());
-
-		user.getMemberships().add(member);
-
-		em.merge(club);
-		em.merge(user);
+		clubRepository.adjustMembersCount(clubId, 1);
+		contentVersions.markChanged(clubId);
+		membershipService.invalidate(clubId, userId);
 	}
 
 	/**
@@ -332,24 +511,12 @@ public class ClubService {
 	 */
 	@Transactional
 	public void leaveClub(UUID clubId, UUID userId) {
-		Club club = getClubById(clubId);
-		Member membership = club.getMembersList().stream()
-				.filter(m -> m.getUser() != null && m.getUser().getId().equals(userId))
-				.findFirst()
-				.orElse(null);
-		if (membership == null) {
-			throw new ValidationException(ErrorPayload.builder()
-					.errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
-					.title("User not a member")
-					.details("User is not a member of this club.")
-					.messageParameter("clubId", clubId.toString())
-					.messageParameter("userId", userId.toString())
-					.build());
+		if (!clubRepository.exists(clubId)) {
+			throw clubNotFound(clubId);
 		}
-		if (membership.getRole() == MemberRole.ADMIN) {
-			long adminCount = club.getMembersList().stream()
-					.filter(m -> m.getRole() == MemberRole.ADMIN)
-					.count();
+		MemberRole role = memberRepository.findRole(clubId, userId);
+		if (role == MemberRole.ADMIN) {
+			long adminCount = memberRepository.countByClubAndRole(clubId, MemberRole.ADMIN);
 			if (adminCount <= 1) {
 				throw new ValidationException(ErrorPayload.builder()
 						.errorCode(ClubHubErrorCode.LAST_ADMIN_LEAVE)
@@ -361,16 +528,20 @@ public class ClubService {
 			}
 		}
 
-		User user = membership.getUser();
-
-		club.getMembersList().remove(membership);
-		club.setMembers(club.getMembersList().size());
-
-		user.getMemberships().remove(membership);
-
-		em.remove(em.contains(membership) ? membership : em.merge(membership));
-		em.merge(club);
-		em.merge(user);
+		// a concurrent leave of the same user deletes nothing here and is reported as not a member
+		if (role == null || !memberRepository.deleteByClubAndUser(clubId, userId)) {
+			throw new ValidationException(ErrorPayload.builder()
+					.errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
+					.title("User not a member")
+					.details("User is not a member of this club.")
+					.messageParameter("clubId", clubId.toString())
+					.messageParameter("userId", userId.toString())
+					.build());
+		}
+		clubRepository.adjustMembersCount(clubId, -1);
+		contentVersions.markChanged(clubId);
+		feedRepository.deleteForMember(userId, clubId);
+		membershipService.invalidate(clubId, userId);
 	}
 
 	/**
@@ -387,12 +558,9 @@ public class ClubService {
 	 */
 	@Transactional
 	public void updateMemberRole(UUID clubId, UUID memberId, MemberRole newRole, UUID actingUserId) {
-		Club club = getClubById(clubId);
-		Member actingMember = club.getMembersList().stream()
-				.filter(m -> m.getUser() != null && m.getUser().getId().equals(actingUserId))
-				.findFirst()
-				.orElse(null);
-		if (actingMember == null || actingMember.getRole() != MemberRole.ADMIN) {
+		getClubShallow(clubId);
+		MemberRole actingRole = membershipService.getRole(clubId, actingUserId);
+		if (actingRole != MemberRole.ADMIN) {
 			throw new ValidationException(ErrorPayload.builder()
 					.errorCode(ClubHubErrorCode.INSUFFICIENT_PERMISSIONS)
 					.title("Insufficient permissions")
@@ -402,11 +570,8 @@ public class ClubService {
 					.build());
 		}
 
-		Member member = club.getMembersList().stream()
-				.filter(m -> m.getId().equals(memberId))
-				.findFirst()
-				.orElse(null);
-		if (member == null) {
+		Member member = memberRepository.findById(memberId);
+		if (member == null || !member.getClub().getId().equals(clubId)) {
 			throw new NotFoundException(ErrorPayload.builder()
 					.errorCode(ClubHubErrorCode.MEMBER_NOT_FOUND)
 					.title("Member not found")
@@ -415,10 +580,8 @@ public class ClubService {
 					.build());
 		}
 
-		if (actingMember.getId().equals(member.getId())) {
-			long adminCount = club.getMembersList().stream()
-					.filter(m -> m.getRole() == MemberRole.ADMIN)
-					.count();
+		if (member.getUser().getId().equals(actingUserId)) {
+			long adminCount = memberRepository.countByClubAndRole(clubId, MemberRole.ADMIN);
 			if (adminCount <= 1 && newRole != MemberRole.ADMIN) {
 				throw new ValidationException(ErrorPayload.builder()
 						.errorCode(ClubHubErrorCode.LAST_ADMIN_ROLE_CHANGE)
@@ -432,6 +595,127 @@ public class ClubService {
 
 		member.setRole(newRole);
 		em.merge(member);
+		membershipService.invalidate(clubId, member.getUser().getId());
+	}
+
+	/**
+	 * Adds the users listed in a CSV file to a club. Each line holds an email and an optional role
+	 * ({@code MEMBER} if empty); a leading {@code email,role} header is skipped. The file is read
+	 * as a stream and processed in chunks: every chunk resolves its emails with one query and
+	 * inserts its members with one JDBC batch. The member counter is updated once at the end.
+	 *
+	 * @param clubId
+	 *     club to add the members to
+	 * @param csv
+	 *     CSV content in UTF-8
+	 * @return how many users were added, skipped as existing members, or not found
+	 */
+	@Transactional
+	public MemberImportResult importMembers(UUID clubId, InputStream csv) {
+		if (!clubRepository.exists(clubId)) {
+			throw clubNotFound(clubId);
+		}
+
+		ImportTally tally = new ImportTally();
+		Map<String, MemberRole> chunk = new LinkedHashMap<>();
+		try (var reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8))) {
+			String line;
+			int lineNumber = 0;
+			while ((line = reader.readLine()) != null) {
+				lineNumber++;
+				String[] columns = line.split(",", -1);
+				String email = unquote(columns[0]);
+				if (email.isEmpty() || (lineNumber == 1 && email.equalsIgnoreCase("email"))) {
+					continue;
+				}
+				chunk.put(email, parseImportRole(columns.length > 1 ? unquote(columns[1]) : "", lineNumber));
+				if (chunk.size() >= IMPORT_BATCH_SIZE) {
+					importChunk(clubId, chunk, tally);
+					chunk.clear();
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to read member import", e);
+		}
+		importChunk(clubId, chunk, tally);
+
+		if (tally.imported > 0) {
+			clubRepository.adjustMembersCount(clubId, tally.imported);
+			contentVersions.markChanged(clubId);
+			membershipService.invalidateClub(clubId);
+		}
+		return new MemberImportResult(tally.imported, tally.alreadyMembers, tally.unknownEmails);
+	}
+
+	private static final class ImportTally {
+		int imported;
+		int alreadyMembers;
+		final List<String> unknownEmails = new ArrayList<>();
+	}
+
+	private void importChunk(UUID clubId, Map<String, MemberRole> chunk, ImportTally tally) {
+		Map<String, UUID> userIds = userRepository.findIdsByEmails(chunk.keySet());
+		Map<UUID, MemberRole> roles = new HashMap<>();
+		chunk.forEach((email, role) -> {
+			UUID userId = userIds.get(email);
+			if (userId == null) {
+				tally.unknownEmails.add(email);
+			} else {
+				roles.put(userId, role);
+			}
+		});
+		int inserted = memberRepository.insertBatchIfAbsent(clubId, roles);
+		tally.imported += inserted;
+		tally.alreadyMembers += roles.size() - inserted;
+	}
+
+	private static MemberRole parseImportRole(String role, int lineNumber) {
+		if (role.isEmpty()) {
+			return MemberRole.MEMBER;
+		}
+		try {
+			return MemberRole.valueOf(role.toUpperCase(Locale.ROOT));
+		} catch (IllegalArgumentException e) {
+			throw new ValidationException(ErrorPayload.builder()
+					.errorCode(ClubHubErrorCode.INVALID_IMPORT_ROW)
+					.title("Invalid import row")
+					.details("Line %d has the unknown role '%s'.".formatted(lineNumber, role))
+					.messageParameter("line", String.valueOf(lineNumber))
+					.messageParameter("role", role)
+					.build());
+		}
+	}
+
+	private static String unquote(String value) {
+		String trimmed = value.trim();
+		if (trimmed.length() >= 2 && trimmed.startsWith("\"") && trimmed.endsWith("\"")) {
+			trimmed = trimmed.substring(1, trimmed.length() - 1).trim();
+		}
+		return trimmed;
+	}
+
+	/**
+	 * Lists one page of a club's members in join order.
+	 *
+	 * @param clubId
+	 *     club whose members are listed
+	 * @param role
+	 *     optional role to filter by
+	 * @param usernamePrefix
+	 *     optional case-insensitive username prefix
+	 * @param cursor
+	 *     position of the last member of the previous page, {@code null} for the first page
+	 * @param size
+	 *     number of results per page
+	 * @return the members of the page
+	 */
+	public List<MemberSummary> getMemberSummaries(UUID clubId, MemberRole role, String usernamePrefix,
+			PageCursor cursor, int size) {
+		if (cursor == null) {
+			return memberRepository.findMemberSummaries(clubId, role, usernamePrefix, null, null, size);
+		}
+		return memberRepository.findMemberSummaries(clubId, role, usernamePrefix, cursor.timestampKey(),
+				cursor.id(), size);
 	}
 
 }
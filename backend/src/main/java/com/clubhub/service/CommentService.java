@@ -2,7 +2,6 @@ package com.clubhub.service;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Set;
 import java.util.UUID;
 
 import jakarta.enterprise.context.ApplicationScoped;
@@ -11,7 +10,6 @@ import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 
 import com.clubhub.entity.Comment;
-import com.clubhub.entity.Member;
 import com.clubhub.entity.MemberRole;
 import com.clubhub.entity.Post;
 import com.clubhub.entity.User;
@@ -20,6 +18,7 @@ import com.clubhub.exception.ErrorPayload;
 import com.clubhub.exception.NotFoundException;
 import com.clubhub.exception.ValidationException;
 import com.clubhub.repository.CommentRepository;
+import com.clubhub.repository.PostRepository;
 
 @ApplicationScoped
 public class CommentService {
@@ -27,6 +26,15 @@ public class CommentService {
 	@Inject
 	CommentRepository commentRepository;
 
+	@Inject
+	PostRepository postRepository;
+
+	@Inject
+	ContentVersionBuffer contentVersions;
+
+	@Inject
+	MembershipService membershipService;
+
 	@Inject
 	PostService postService;
 
@@ -34,23 +42,35 @@ public class CommentService {
 	EntityManager em;
 
 	@Inject
-        UserService userService;
-
-        public List<Comment> getComments(UUID postId, UUID userId, int offset, int limit) {
-                Post post = postService.getPost(postId);
-                boolean isMember = post.getClub().getMembersList().stream()
-                                .anyMatch(m -> m.getUser() != null && m.getUser().getId().equals(userId));
-                if (!isMember) {
-                        throw new ValidationException(ErrorPayload.builder()
-                                        .errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
-                                        .title("User not a member")
-                                        .details("User must be a member of the club to view comments.")
-                                        .messageParameter("postId", postId.toString())
-                                        .messageParameter("userId", userId.toString())
-                                        .build());
-                }
-                return commentRepository.findByPost(postId, offset, limit);
-        }
+	UserService userService;
+
+	public List<Comment> getComments(UUID postId, UUID userId, int offset, int limit) {
+		requireViewer(postId, userId);
+		return commentRepository.findByPost(postId, offset, limit);
+	}
+
+	/**
+	 * Returns the page of a post's comments that follows {@code cursor}, a {@code (time, id)} key of
+	 * the last comment of the previous page.
+	 */
+	public List<Comment> getComments(UUID postId, UUID userId, PageCursor cursor, int limit) {
+		requireViewer(postId, userId);
+		return commentRepository.findByPostAfter(postId, cursor.timestampKey(), cursor.id(), limit);
+	}
+
+	private void requireViewer(UUID postId, UUID userId) {
+		Post post = postService.getPost(postId);
+		boolean isMember = membershipService.isMember(post.getClub().getId(), userId);
+		if (!isMember) {
+			throw new ValidationException(ErrorPayload.builder()
+					.errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
+					.title("User not a member")
+					.details("User must be a member of the club to view comments.")
+					.messageParameter("postId", postId.toString())
+					.messageParameter("userId", userId.toString())
+					.build());
+		}
+	}
 
 	public Comment getComment(UUID id) {
 		Comment comment = commentRepository.findById(id);
@@ -69,9 +89,7 @@ public class CommentService {
 	@Transactional
 	public Comment addComment(UUID postId, UUID userId, String content) {
 		Post post = postService.getPost(postId);
-		Set<Member> members = post.getClub().getMembersList();
-		boolean isMember = members.stream()
-				.anyMatch(m -> m.getUser() != null && m.getUser().getId().equals(userId));
+		boolean isMember = membershipService.isMember(post.getClub().getId(), userId);
 		if (!isMember) {
 			throw new ValidationException(ErrorPayload.builder()
 					.errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
@@ -86,13 +104,14 @@ public class CommentService {
 		comment.setAuthor(user);
 		comment.setContent(content);
 		comment.setLikes(0);
-		comment.setTime(LocalDateTime.now().toString());
+		comment.setTime(LocalDateTime.now());
 		comment.setPost(post);
 
 		commentRepository.save(comment);
 		post.getCommentsList().add(comment);
-		post.setComments(post.getComments() + 1);
 		em.merge(post);
+		postRepository.adjustComments(postId, 1);
+		contentVersions.markChanged(post.getClub().getId());
 		return comment;
 	}
 
@@ -100,8 +119,7 @@ public class CommentService {
 	public void like(UUID commentId, UUID userId) {
 		Comment c = getComment(commentId);
 		var club = c.getPost().getClub();
-		boolean isMember = club.getMembersList().stream()
-				.anyMatch(m -> m.getUser() != null && m.getUser().getId().equals(userId));
+		boolean isMember = membershipService.isMember(club.getId(), userId);
 		if (!isMember) {
 			throw new ValidationException(ErrorPayload.builder()
 					.errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
@@ -123,8 +141,7 @@ public class CommentService {
 	public void unlike(UUID commentId, UUID userId) {
 		Comment c = getComment(commentId);
 		var club = c.getPost().getClub();
-		boolean isMember = club.getMembersList().stream()
-				.anyMatch(m -> m.getUser() != null && m.getUser().getId().equals(userId));
+		boolean isMember = membershipService.isMember(club.getId(), userId);
 		if (!isMember) {
 			throw new ValidationException(ErrorPayload.builder()
 					.errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
@@ -144,10 +161,8 @@ public class CommentService {
 		Comment comment = getComment(commentId);
 		User user = userService.getUserById(userId);
 		var club = comment.getPost().getClub();
-		Member membership = club.getMembersList().stream()
-				.filter(m -> m.getUser() != null && m.getUser().getId().equals(userId))
-				.findFirst().orElse(null);
-		if (membership == null) {
+		MemberRole role = membershipService.getRole(club.getId(), userId);
+		if (role == null) {
 			throw new ValidationException(ErrorPayload.builder()
 					.errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
 					.title("User not a member")
@@ -174,10 +189,8 @@ public class CommentService {
 		Comment comment = getComment(commentId);
 		User user = userService.getUserById(userId);
 		var club = comment.getPost().getClub();
-		Member membership = club.getMembersList().stream()
-				.filter(m -> m.getUser() != null && m.getUser().getId().equals(userId))
-				.findFirst().orElse(null);
-		if (membership == null) {
+		MemberRole role = membershipService.getRole(club.getId(), userId);
+		if (role == null) {
 			throw new ValidationException(ErrorPayload.builder()
 					.errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
 					.title("User not a member")
@@ -187,7 +200,7 @@ public class CommentService {
 					.build());
 		}
 		boolean isAuthor = comment.getAuthor().getId().equals(user.getId());
-		if (!isAuthor && membership.getRole() == MemberRole.MEMBER) {
+		if (!isAuthor && role == MemberRole.MEMBER) {
 			throw new ValidationException(ErrorPayload.builder()
 					.errorCode(ClubHubErrorCode.INSUFFICIENT_PERMISSIONS)
 					.title("Insufficient permissions")
@@ -198,8 +211,9 @@ public class CommentService {
 		}
 		Post p = comment.getPost();
 		p.getCommentsList().remove(comment);
-		p.setComments(p.getComments() - 1);
 		commentRepository.delete(commentId);
 		em.merge(p);
+		postRepository.adjustComments(p.getId(), -1);
+		contentVersions.markChanged(club.getId());
 	}
 }
@@ -0,0 +1,64 @@
+package com.clubhub.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import com.clubhub.repository.ClubRepository;
+
+/**
+ * Derives strong ETags for post and event lists from the content version of the clubs they are
+ * built from. Computing a tag reads only {@code clubs} and {@code member}, so a conditional request
+ * whose tag still matches is answered without loading a single post or event.
+ */
+@ApplicationScoped
+public class ContentTagService {
+
+	@Inject
+	ClubRepository clubRepository;
+
+	/**
+	 * Returns the tag of a page of a club's posts as seen by one user. The viewer is part of the tag
+	 * because the page carries the viewer's liked and bookmarked flags.
+	 *
+	 * @param params
+	 *     every request parameter that selects the page, such as sort order, offset and limit
+	 * @return the tag, or {@code null} if the club does not exist
+	 */
+	public String clubPostsTag(UUID clubId, UUID viewerId, Object... params) {
+		Long version = clubRepository.findContentVersion(clubId);
+		if (version == null) {
+			return null;
+		}
+		return digest("club", clubId, version, viewerId, Arrays.toString(params));
+	}
+
+	/**
+	 * Returns the tag of a page of a user's feed, built from the content version of every club the
+	 * user belongs to. Joining or leaving a club therefore changes the tag as well.
+	 *
+	 * @param params
+	 *     every request parameter that selects the page
+	 */
+	public String feedTag(UUID userId, Object... params) {
+		Map<UUID, Long> versions = clubRepository.findContentVersionsForMember(userId);
+		return digest("feed", userId, versions, Arrays.toString(params));
+	}
+
+	private static String digest(Object... parts) {
+		try {
+			MessageDigest sha = MessageDigest.getInstance("SHA-256");
+			byte[] hash = sha.digest(Arrays.toString(parts).getBytes(StandardCharsets.UTF_8));
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, 18));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+}
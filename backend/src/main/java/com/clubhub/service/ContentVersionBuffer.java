@@ -0,0 +1,107 @@
+package com.clubhub.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+
+import com.clubhub.repository.ClubRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.logging.Log;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.scheduler.Scheduled;
+
+/**
+ * Collects the clubs whose content changed and bumps their content version in one batch every
+ * {@code clubhub.content-version.flush-interval}. Writes only record the club once their
+ * transaction has committed, so a like or comment never locks the club row, and a burst of
+ * changes to one club costs a single update. ETags derived from the version may therefore lag
+ * behind a write by up to one flush interval.
+ */
+@ApplicationScoped
+public class ContentVersionBuffer {
+
+	/** Fired inside the transaction that changes the content of the clubs. */
+	record Changed(Collection<UUID> clubIds) {
+	}
+
+	private final Set<UUID> pending = ConcurrentHashMap.newKeySet();
+
+	@Inject
+	jakarta.enterprise.event.Event<Changed> changed;
+
+	@Inject
+	ClubRepository clubRepository;
+
+	@Inject
+	MeterRegistry registry;
+
+	@PostConstruct
+	void init() {
+		Gauge.builder("clubhub.content_version.pending", pending, Set::size)
+				.description("Clubs waiting for their content version to be bumped")
+				.register(registry);
+	}
+
+	/**
+	 * Marks the club's posts and events as changed once the current transaction commits.
+	 */
+	public void markChanged(UUID clubId) {
+		changed.fire(new Changed(List.of(clubId)));
+	}
+
+	/**
+	 * Marks the content of every given club as changed once the current transaction commits.
+	 */
+	public void markChanged(Collection<UUID> clubIds) {
+		if (!clubIds.isEmpty()) {
+			changed.fire(new Changed(List.copyOf(clubIds)));
+		}
+	}
+
+	void onChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) Changed event) {
+		pending.addAll(event.clubIds());
+	}
+
+	@Scheduled(every = "${clubhub.content-version.flush-interval:1s}",
+			concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+	void scheduledFlush() {
+		flush();
+	}
+
+	void onStop(@Observes ShutdownEvent event) {
+		flush();
+	}
+
+	/**
+	 * Bumps the content version of all marked clubs in one transaction. If the update fails, the
+	 * clubs are marked again so the next flush retries them.
+	 */
+	synchronized void flush() {
+		if (pending.isEmpty()) {
+			return;
+		}
+		// a club marked again meanwhile is either left for the next flush or covered by this update,
+		// which starts after the marking transaction committed
+		List<UUID> clubIds = new ArrayList<>(pending);
+		pending.removeAll(clubIds);
+		try {
+			QuarkusTransaction.requiringNew().run(() -> clubRepository.bumpContentVersions(clubIds));
+		} catch (RuntimeException e) {
+			Log.warnf(e, "Failed to bump the content version of %d clubs, retrying with the next flush",
+					clubIds.size());
+			pending.addAll(clubIds);
+		}
+	}
+}
@@ -9,7 +9,7 @@ import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 
 import com.clubhub.entity.Event;
-import com.clubhub.entity.Member;
+import com.clubhub.entity.FeedItemType;
 import com.clubhub.entity.MemberRole;
 import com.clubhub.entity.User;
 import com.clubhub.entity.dto.EventDTO;
@@ -17,7 +17,9 @@ import com.clubhub.exception.ClubHubErrorCode;
 import com.clubhub.exception.ErrorPayload;
 import com.clubhub.exception.NotFoundException;
 import com.clubhub.exception.ValidationException;
+import com.clubhub.repository.ClubRepository;
 import com.clubhub.repository.EventRepository;
+import com.clubhub.repository.FeedRepository;
 
 @ApplicationScoped
 public class EventService {
@@ -25,11 +27,27 @@ public class EventService {
 	@Inject
 	EventRepository eventRepository;
 
+	@Inject
+	MembershipService membershipService;
+
 	@Inject
 	UserService userService;
 
+	@Inject
+	ClubRepository clubRepository;
+
+	@Inject
+	ContentVersionBuffer contentVersions;
+
+	@Inject
+	FeedRepository feedRepository;
+
+	@Inject
+	FeedPushService feedPushService;
+
 	/**
-	 * Persists a new event, setting the creation timestamp if missing.
+	 * Persists a new event, setting the creation timestamp if missing, adds it to the feed of every
+	 * club member and pushes it to their open feed streams.
 	 *
 	 * @param event
 	 *     the event to save
@@ -40,6 +58,12 @@ public class EventService {
 			event.setCreatedAt(LocalDateTime.now());
 		}
 		eventRepository.save(event);
+		if (event.getClub() != null) {
+			clubRepository.adjustEventsCount(event.getClub().getId(), 1);
+			contentVersions.markChanged(event.getClub().getId());
+			feedRepository.fanOut(FeedItemType.EVENT, event.getId(), event.getClub().getId(), event.getCreatedAt());
+			feedPushService.publish(event);
+		}
 	}
 
 	/**
@@ -77,8 +101,7 @@ public class EventService {
 	public void joinEvent(UUID eventId, UUID userId) {
 		Event event = getEventById(eventId);
 		User user = userService.getUserById(userId);
-		boolean isMember = event.getClub().getMembersList().stream()
-				.anyMatch(m -> m.getUser() != null && m.getUser().getId().equals(userId));
+		boolean isMember = membershipService.isMember(event.getClub().getId(), userId);
 		if (!isMember) {
 			throw new ValidationException(ErrorPayload.builder()
 					.errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
@@ -93,6 +116,7 @@ public class EventService {
 		if (!alreadyJoined) {
 			event.getAttendees().add(user);
 			eventRepository.update(event);
+			contentVersions.markChanged(event.getClub().getId());
 		}
 	}
 
@@ -108,8 +132,7 @@ public class EventService {
 	public void leaveEvent(UUID eventId, UUID userId) {
 		Event event = getEventById(eventId);
 		userService.getUserById(userId);
-		boolean isMember = event.getClub().getMembersList().stream()
-				.anyMatch(m -> m.getUser() != null && m.getUser().getId().equals(userId));
+		boolean isMember = membershipService.isMember(event.getClub().getId(), userId);
 		if (!isMember) {
 			throw new ValidationException(ErrorPayload.builder()
 					.errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
@@ -122,6 +145,7 @@ public class EventService {
 		boolean attended = event.getAttendees().removeIf(u -> u.getId().equals(userId));
 		if (attended) {
 			eventRepository.update(event);
+			contentVersions.markChanged(event.getClub().getId());
 		}
 	}
 
@@ -138,7 +162,24 @@ public class EventService {
 	 */
 	public List<Event> getFeedForUser(UUID userId, int offset, int limit) {
 		userService.getUserById(userId);
-		return eventRepository.findFeedForUser(userId, offset, limit);
+		return eventRepository.findByIds(feedRepository.findItemIds(userId, FeedItemType.EVENT, offset, limit));
+	}
+
+	/**
+	 * Retrieves the page of a user's event feed that follows a cursor.
+	 *
+	 * @param userId
+	 *     identifier of the user
+	 * @param cursor
+	 *     {@code (createdAt, id)} of the last event of the previous page
+	 * @param limit
+	 *     maximum number of events
+	 * @return list of events for the user's feed
+	 */
+	public List<Event> getFeedForUser(UUID userId, PageCursor cursor, int limit) {
+		userService.getUserById(userId);
+		return eventRepository.findByIds(feedRepository.findItemIdsBefore(userId, FeedItemType.EVENT,
+				cursor.timestampKey(), cursor.id(), limit));
 	}
 
 	/**
@@ -180,10 +221,8 @@ public class EventService {
 					.messageParameter("clubId", clubId.toString())
 					.build());
 		}
-		Member membership = event.getClub().getMembersList().stream()
-				.filter(m -> m.getUser() != null && m.getUser().getId().equals(userId))
-				.findFirst().orElse(null);
-		if (membership == null) {
+		MemberRole role = membershipService.getRole(event.getClub().getId(), userId);
+		if (role == null) {
 			throw new ValidationException(ErrorPayload.builder()
 					.errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
 					.title("User not a member")
@@ -192,7 +231,7 @@ public class EventService {
 					.messageParameter("userId", userId.toString())
 					.build());
 		}
-		if (membership.getRole() == MemberRole.MEMBER) {
+		if (role == MemberRole.MEMBER) {
 			throw new ValidationException(ErrorPayload.builder()
 					.errorCode(ClubHubErrorCode.INSUFFICIENT_PERMISSIONS)
 					.title("Insufficient permissions")
@@ -208,6 +247,7 @@ public class EventService {
 		event.setLocation(dto.getLocation());
 		event.setStatus(dto.getStatus() != null ? dto.getStatus() : event.getStatus());
 		eventRepository.update(event);
+		contentVersions.markChanged(clubId);
 	}
 
 	/**
@@ -232,10 +272,8 @@ public class EventService {
 					.messageParameter("clubId", clubId.toString())
 					.build());
 		}
-		Member membership = event.getClub().getMembersList().stream()
-				.filter(m -> m.getUser() != null && m.getUser().getId().equals(userId))
-				.findFirst().orElse(null);
-		if (membership == null) {
+		MemberRole role = membershipService.getRole(event.getClub().getId(), userId);
+		if (role == null) {
 			throw new ValidationException(ErrorPayload.builder()
 					.errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
 					.title("User not a member")
@@ -244,7 +282,7 @@ public class EventService {
 					.messageParameter("userId", userId.toString())
 					.build());
 		}
-		if (membership.getRole() == MemberRole.MEMBER) {
+		if (role == MemberRole.MEMBER) {
 			throw new ValidationException(ErrorPayload.builder()
 					.errorCode(ClubHubErrorCode.INSUFFICIENT_PERMISSIONS)
 					.title("Insufficient permissions")
@@ -253,7 +291,9 @@ public class EventService {
 					.messageParameter("userId", userId.toString())
 					.build());
 		}
-		event.getClub().getEvents().remove(event);
 		eventRepository.delete(eventId);
+		clubRepository.adjustEventsCount(clubId, -1);
+		contentVersions.markChanged(clubId);
+		feedRepository.deleteItem(FeedItemType.EVENT, eventId);
 	}
 }
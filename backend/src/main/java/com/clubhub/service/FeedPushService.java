@@ -0,0 +1,140 @@
+package com.clubhub.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+
+import com.clubhub.entity.Event;
+import com.clubhub.entity.FeedItemType;
+import com.clubhub.entity.Post;
+import com.clubhub.entity.dto.FeedItemDTO;
+import com.clubhub.entity.mapper.EventMapper;
+import com.clubhub.entity.mapper.PostMapper;
+import com.clubhub.repository.MemberRepository;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.subscription.BackPressureStrategy;
+import io.smallrye.mutiny.subscription.MultiEmitter;
+
+/**
+ * Pushes new posts and events to the feed streams of connected members. Open streams are kept in a
+ * registry keyed by club, so publishing only visits the subscribers of the club in question.
+ * Notifications are delivered once the publishing transaction has committed, and each stream
+ * sends them in batches of up to {@code clubhub.feed-push.batch-size} items collected over
+ * {@code clubhub.feed-push.batch-window}.
+ */
+@ApplicationScoped
+public class FeedPushService {
+
+	/** Fired inside the transaction that creates a post or event. */
+	record Published(UUID clubId, FeedItemDTO item) {
+	}
+
+	private record Subscriber(UUID userId, MultiEmitter<? super FeedItemDTO> emitter) {
+	}
+
+	private final ConcurrentHashMap<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+	@Inject
+	jakarta.enterprise.event.Event<Published> published;
+
+	@Inject
+	MemberRepository memberRepository;
+
+	@Inject
+	MembershipService membershipService;
+
+	@Inject
+	MeterRegistry registry;
+
+	@ConfigProperty(name = "clubhub.feed-push.batch-size", defaultValue = "50")
+	int batchSize;
+
+	@ConfigProperty(name = "clubhub.feed-push.batch-window", defaultValue = "500ms")
+	Duration batchWindow;
+
+	@PostConstruct
+	void init() {
+		Gauge.builder("clubhub.feed_push.subscriptions", subscribers,
+				map -> map.values().stream().mapToInt(Set::size).sum())
+				.description("Open feed streams, counted once per club they follow")
+				.register(registry);
+	}
+
+	/**
+	 * Opens a feed stream for the user, covering the clubs the user belongs to right now. The
+	 * stream stays registered until the client disconnects.
+	 */
+	public Multi<List<FeedItemDTO>> subscribe(UUID userId) {
+		List<UUID> clubIds = memberRepository.findClubIds(userId);
+		// a client that cannot keep up misses notifications rather than piling them up in memory;
+		// it can always catch up from /api/feed
+		Multi<FeedItemDTO> items = Multi.createFrom().emitter(emitter -> {
+			Subscriber subscriber = new Subscriber(userId, emitter);
+			clubIds.forEach(clubId -> register(clubId, subscriber));
+			emitter.onTermination(() -> clubIds.forEach(clubId -> unregister(clubId, subscriber)));
+		}, BackPressureStrategy.DROP);
+		return items.group().intoLists().of(batchSize, batchWindow)
+				.select().where(batch -> !batch.isEmpty());
+	}
+
+	/**
+	 * Announces a new post to the members of its club once the current transaction commits.
+	 */
+	public void publish(Post post) {
+		FeedItemDTO item = new FeedItemDTO();
+		item.setType(FeedItemType.POST);
+		item.setPost(PostMapper.toDTO(post));
+		published.fire(new Published(post.getClub().getId(), item));
+	}
+
+	/**
+	 * Announces a new event to the members of its club once the current transaction commits.
+	 */
+	public void publish(Event event) {
+		FeedItemDTO item = new FeedItemDTO();
+		item.setType(FeedItemType.EVENT);
+		item.setEvent(EventMapper.toDTO(event));
+		published.fire(new Published(event.getClub().getId(), item));
+	}
+
+	void deliver(@Observes(during = TransactionPhase.AFTER_SUCCESS) Published event) {
+		Set<Subscriber> targets = subscribers.get(event.clubId());
+		if (targets == null) {
+			return;
+		}
+		for (Subscriber subscriber : targets) {
+			// the user may have left the club since the stream was opened
+			if (membershipService.isMember(event.clubId(), subscriber.userId())) {
+				subscriber.emitter().emit(event.item());
+			}
+		}
+	}
+
+	private void register(UUID clubId, Subscriber subscriber) {
+		subscribers.compute(clubId, (id, set) -> {
+			Set<Subscriber> target = set != null ? set : ConcurrentHashMap.newKeySet();
+			target.add(subscriber);
+			return target;
+		});
+	}
+
+	private void unregister(UUID clubId, Subscriber subscriber) {
+		subscribers.computeIfPresent(clubId, (id, set) -> {
+			set.remove(subscriber);
+			return set.isEmpty() ? null : set;
+		});
+	}
+}
@@ -0,0 +1,102 @@
+package com.clubhub.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import com.clubhub.entity.Event;
+import com.clubhub.entity.FeedItemType;
+import com.clubhub.entity.Post;
+import com.clubhub.repository.EventRepository;
+import com.clubhub.repository.FeedEntry;
+import com.clubhub.repository.FeedRepository;
+import com.clubhub.repository.PostRepository;
+
+@ApplicationScoped
+public class FeedService {
+
+	@Inject
+	FeedRepository feedRepository;
+
+	@Inject
+	PostRepository postRepository;
+
+	@Inject
+	EventRepository eventRepository;
+
+	@Inject
+	UserService userService;
+
+	/**
+	 * A post or an event of the merged feed, together with its timeline position.
+	 *
+	 * @param entry
+	 *     timeline entry of the item
+	 * @param post
+	 *     the post, if the entry is a post
+	 * @param event
+	 *     the event, if the entry is an event
+	 */
+	public record Item(FeedEntry entry, Post post, Event event) {
+	}
+
+	/**
+	 * One page of the merged feed. Items whose post or event was deleted in the meantime are left
+	 * out, so the page may hold fewer items than were read from the timeline.
+	 *
+	 * @param items
+	 *     the items of the page
+	 * @param last
+	 *     last timeline entry read for the page, {@code null} if the page is empty
+	 * @param full
+	 *     whether the timeline returned a full page, i.e. more entries may follow
+	 */
+	public record Page(List<Item> items, FeedEntry last, boolean full) {
+	}
+
+	/**
+	 * Retrieves one page of the user's posts and events merged into a single newest-first stream.
+	 * Only the entries of the requested page are read from the timeline, and the posts and events
+	 * they reference are loaded with one query each.
+	 *
+	 * @param userId
+	 *     identifier of the user
+	 * @param cursor
+	 *     {@code (time, id)} of the last item of the previous page, {@code null} for the first page
+	 * @param size
+	 *     number of items per page
+	 * @return the page
+	 */
+	public Page getStream(UUID userId, PageCursor cursor, int size) {
+		userService.getUserById(userId);
+		List<FeedEntry> entries = cursor == null
+				? feedRepository.findEntries(userId, null, null, size)
+				: feedRepository.findEntries(userId, cursor.timestampKey(), cursor.id(), size);
+
+		Map<UUID, Post> posts = postRepository.findByIds(idsOf(entries, FeedItemType.POST)).stream()
+				.collect(Collectors.toMap(Post::getId, Function.identity()));
+		Map<UUID, Event> events = eventRepository.findByIds(idsOf(entries, FeedItemType.EVENT)).stream()
+				.collect(Collectors.toMap(Event::getId, Function.identity()));
+
+		List<Item> items = new ArrayList<>(entries.size());
+		for (FeedEntry entry : entries) {
+			Post post = posts.get(entry.itemId());
+			Event event = events.get(entry.itemId());
+			if (post != null || event != null) {
+				items.add(new Item(entry, post, event));
+			}
+		}
+		FeedEntry last = entries.isEmpty() ? null : entries.get(entries.size() - 1);
+		return new Page(items, last, last != null && entries.size() == size);
+	}
+
+	private static List<UUID> idsOf(List<FeedEntry> entries, FeedItemType type) {
+		return entries.stream().filter(e -> e.type() == type).map(FeedEntry::itemId).toList();
+	}
+}
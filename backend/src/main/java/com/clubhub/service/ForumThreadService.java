@@ -6,7 +6,6 @@ import java.util.UUID;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
-import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 
 import com.clubhub.entity.Club;
@@ -16,6 +15,7 @@ import com.clubhub.exception.ClubHubErrorCode;
 import com.clubhub.exception.ErrorPayload;
 import com.clubhub.exception.NotFoundException;
 import com.clubhub.exception.ValidationException;
+import com.clubhub.repository.ClubRepository;
 import com.clubhub.repository.ForumThreadRepository;
 
 @ApplicationScoped
@@ -24,14 +24,17 @@ public class ForumThreadService {
 	@Inject
 	ForumThreadRepository threadRepository;
 
+	@Inject
+	MembershipService membershipService;
+
 	@Inject
 	ClubService clubService;
 
 	@Inject
-	UserService userService;
+	ClubRepository clubRepository;
 
 	@Inject
-	EntityManager em;
+	UserService userService;
 
 	@Transactional
 	public List<ForumThread> getThreadsForClub(UUID clubId, int offset, int limit) {
@@ -43,9 +46,6 @@ public class ForumThreadService {
 				r.getDownvotedBy().size();
 			});
 			t.getReplies().size();
-			t.getClub().getMembersList().size();
-			t.getClub().getEvents().size();
-			t.getClub().getPosts().size();
 			t.getUpvotedBy().size();
 			t.getDownvotedBy().size();
 		});
@@ -70,9 +70,6 @@ public class ForumThreadService {
 			r.getDownvotedBy().size();
 		});
 		thread.getReplies().size();
-		thread.getClub().getMembersList().size();
-		thread.getClub().getEvents().size();
-		thread.getClub().getPosts().size();
 		thread.getUpvotedBy().size();
 		thread.getDownvotedBy().size();
 		return thread;
@@ -80,9 +77,8 @@ public class ForumThreadService {
 
 	@Transactional
 	public ForumThread addThread(UUID clubId, UUID userId, String title, String content) {
-		Club club = clubService.getClubById(clubId);
-		boolean isMember = club.getMembersList().stream()
-				.anyMatch(m -> m.getUser() != null && m.getUser().getId().equals(userId));
+		Club club = clubService.getClubShallow(clubId);
+		boolean isMember = membershipService.isMember(club.getId(), userId);
 		if (!isMember) {
 			throw new ValidationException(ErrorPayload.builder()
 					.errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
@@ -104,8 +100,7 @@ public class ForumThreadService {
 		thread.setDownvotes(0);
 
 		threadRepository.save(thread);
-		club.getForumThreads().add(thread);
-		em.merge(club);
+		clubRepository.adjustThreadsCount(clubId, 1);
 		return thread;
 	}
 
@@ -113,8 +108,7 @@ public class ForumThreadService {
 	public void upvote(UUID threadId, UUID userId) {
 		ForumThread thread = getThread(threadId);
 		Club club = thread.getClub();
-		boolean isMember = club.getMembersList().stream()
-				.anyMatch(m -> m.getUser() != null && m.getUser().getId().equals(userId));
+		boolean isMember = membershipService.isMember(club.getId(), userId);
 		if (!isMember) {
 			throw new ValidationException(ErrorPayload.builder()
 					.errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
@@ -138,8 +132,7 @@ public class ForumThreadService {
 	public void removeUpvote(UUID threadId, UUID userId) {
 		ForumThread thread = getThread(threadId);
 		Club club = thread.getClub();
-		boolean isMember = club.getMembersList().stream()
-				.anyMatch(m -> m.getUser() != null && m.getUser().getId().equals(userId));
+		boolean isMember = membershipService.isMember(club.getId(), userId);
 		if (!isMember) {
 			throw new ValidationException(ErrorPayload.builder()
 					.errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
@@ -158,8 +151,7 @@ public class ForumThreadService {
 	public void downvote(UUID threadId, UUID userId) {
 		ForumThread thread = getThread(threadId);
 		Club club = thread.getClub();
-		boolean isMember = club.getMembersList().stream()
-				.anyMatch(m -> m.getUser() != null && m.getUser().getId().equals(userId));
+		boolean isMember = membershipService.isMember(club.getId(), userId);
 		if (!isMember) {
 			throw new ValidationException(ErrorPayload.builder()
 					.errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
@@ -183,8 +175,7 @@ public class ForumThreadService {
 	public void removeDownvote(UUID threadId, UUID userId) {
 		ForumThread thread = getThread(threadId);
 		Club club = thread.getClub();
-		boolean isMember = club.getMembersList().stream()
-				.anyMatch(m -> m.getUser() != null && m.getUser().getId().equals(userId));
+		boolean isMember = membershipService.isMember(club.getId(), userId);
 		if (!isMember) {
 			throw new ValidationException(ErrorPayload.builder()
 					.errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
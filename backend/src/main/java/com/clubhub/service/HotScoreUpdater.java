@@ -0,0 +1,63 @@
+package com.clubhub.service;
+
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import com.clubhub.repository.PostRepository;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.logging.Log;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.scheduler.Scheduled;
+
+/**
+ * Keeps {@code post.hot_score} current. Every counter update marks its post dirty, and this job
+ * recomputes only the dirty rows, in batches of {@code clubhub.hot-score.batch-size} with one short
+ * transaction each, so queries can sort on the indexed column instead of an expression. The clubs
+ * of refreshed posts are marked changed, since their hot rankings may have moved.
+ */
+@ApplicationScoped
+public class HotScoreUpdater {
+
+	@Inject
+	PostRepository postRepository;
+
+	@Inject
+	ContentVersionBuffer contentVersions;
+
+	@Inject
+	MeterRegistry registry;
+
+	@ConfigProperty(name = "clubhub.hot-score.batch-size", defaultValue = "1000")
+	int batchSize;
+
+	@Scheduled(every = "${clubhub.hot-score.refresh-interval:1m}",
+			concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+	void refresh() {
+		int total = 0;
+		try {
+			int updated;
+			do {
+				List<UUID> clubIds = QuarkusTransaction.requiringNew()
+						.call(() -> postRepository.refreshHotScores(batchSize));
+				contentVersions.markChanged(clubIds);
+				updated = clubIds.size();
+				total += updated;
+			} while (updated == batchSize);
+		} catch (RuntimeException e) {
+			Log.warnf(e, "Failed to refresh hot scores, retrying with the next run");
+		}
+		if (total > 0) {
+			Counter.builder("clubhub.hot_score.refreshed")
+					.description("Posts whose hot score was recomputed")
+					.register(registry)
+					.increment(total);
+		}
+	}
+}
@@ -0,0 +1,16 @@
+package com.clubhub.service;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk member import.
+ *
+ * @param imported
+ *     number of users added to the club
+ * @param alreadyMembers
+ *     number of listed users that already belonged to the club
+ * @param unknownEmails
+ *     listed emails that do not belong to any user
+ */
+public record MemberImportResult(int imported, int alreadyMembers, List<String> unknownEmails) {
+}
@@ -0,0 +1,186 @@
+package com.clubhub.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.clubhub.entity.MemberRole;
+import com.clubhub.repository.MemberRepository;
+
+/**
+ * Answers membership and role questions for a {@code (clubId, userId)} pair without loading the
+ * club's member list. Results are kept in a bounded LRU cache for at most
+ * {@code clubhub.membership-cache.ttl}; callers that change a membership must call
+ * {@link #invalidate(UUID, UUID)} or {@link #invalidateClub(UUID)}.
+ * <p>
+ * Evictions requested inside a transaction happen when it completes, so a concurrent lookup cannot
+ * re-cache the row as it was before the commit. Lookups that overlap an eviction are not cached at
+ * all, and the expiry bounds how long changes made by other instances go unnoticed.
+ */
+@ApplicationScoped
+public class MembershipService {
+
+	private record Key(UUID clubId, UUID userId) {
+	}
+
+	private record Cached(Optional<MemberRole> role, long expiresAt) {
+	}
+
+	@Inject
+	MemberRepository memberRepository;
+
+	@Inject
+	TransactionSynchronizationRegistry transactions;
+
+	@ConfigProperty(name = "clubhub.membership-cache.size", defaultValue = "10000")
+	int cacheSize;
+
+	@ConfigProperty(name = "clubhub.membership-cache.ttl", defaultValue = "30s")
+	Duration ttl;
+
+	private Map<Key, Cached> cache;
+
+	/** Incremented by every eviction; lookups only cache what they read if it did not move. */
+	private final AtomicLong generation = new AtomicLong();
+
+	@PostConstruct
+	void init() {
+		cache = new LinkedHashMap<>(256, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Cached> eldest) {
+				return size() > cacheSize;
+			}
+		};
+	}
+
+	/**
+	 * Checks whether a user belongs to a club.
+	 *
+	 * @param clubId
+	 *     identifier of the club
+	 * @param userId
+	 *     identifier of the user
+	 * @return {@code true} if the user is a member of the club
+	 */
+	public boolean isMember(UUID clubId, UUID userId) {
+		return getRole(clubId, userId) != null;
+	}
+
+	/**
+	 * Returns the role a user holds in a club.
+	 *
+	 * @param clubId
+	 *     identifier of the club
+	 * @param userId
+	 *     identifier of the user
+	 * @return the member's role, or {@code null} if the user is not a member
+	 */
+	public MemberRole getRole(UUID clubId, UUID userId) {
+		if (clubId == null || userId == null) {
+			return null;
+		}
+		Key key = new Key(clubId, userId);
+		long now = System.nanoTime();
+		Cached cached;
+		synchronized (cache) {
+			cached = cache.get(key);
+		}
+		if (cached != null && cached.expiresAt() - now > 0) {
+			return cached.role().orElse(null);
+		}
+		long seen = generation.get();
+		Optional<MemberRole> role = Optional.ofNullable(memberRepository.findRole(clubId, userId));
+		synchronized (cache) {
+			// an eviction during the query may mean the row read is already outdated
+			if (generation.get() == seen) {
+				cache.put(key, new Cached(role, now + ttl.toNanos()));
+			}
+		}
+		return role.orElse(null);
+	}
+
+	/**
+	 * Determines which of the given clubs a user belongs to. Meant for lists, where a lookup per
+	 * club would cost one query each; the batch is answered by a single query and bypasses the cache.
+	 *
+	 * @param userId
+	 *     identifier of the user
+	 * @param clubIds
+	 *     clubs to check
+	 * @return the subset of {@code clubIds} the user is a member of
+	 */
+	public Set<UUID> joinedClubIds(UUID userId, Collection<UUID> clubIds) {
+		if (userId == null) {
+			return Set.of();
+		}
+		return memberRepository.findJoinedClubIds(userId, clubIds);
+	}
+
+	/**
+	 * Drops the cached membership of a single user, e.g. after a join, leave or role change.
+	 *
+	 * @param clubId
+	 *     identifier of the club
+	 * @param userId
+	 *     identifier of the user
+	 */
+	public void invalidate(UUID clubId, UUID userId) {
+		Key key = new Key(clubId, userId);
+		afterCompletion(() -> {
+			synchronized (cache) {
+				generation.incrementAndGet();
+				cache.remove(key);
+			}
+		});
+	}
+
+	/**
+	 * Drops all cached memberships of a club, e.g. after the club was deleted.
+	 *
+	 * @param clubId
+	 *     identifier of the club
+	 */
+	public void invalidateClub(UUID clubId) {
+		afterCompletion(() -> {
+			synchronized (cache) {
+				generation.incrementAndGet();
+				cache.keySet().removeIf(k -> k.clubId().equals(clubId));
+			}
+		});
+	}
+
+	/**
+	 * Runs an eviction once the current transaction has completed, or right away outside of one.
+	 * Rolled back transactions evict as well, which is harmless.
+	 */
+	private void afterCompletion(Runnable eviction) {
+		if (transactions.getTransactionStatus() != Status.STATUS_ACTIVE) {
+			eviction.run();
+			return;
+		}
+		transactions.registerInterposedSynchronization(new Synchronization() {
+			@Override
+			public void beforeCompletion() {
+			}
+
+			@Override
+			public void afterCompletion(int status) {
+				eviction.run();
+			}
+		});
+	}
+}
@@ -0,0 +1,99 @@
+package com.clubhub.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.clubhub.exception.ClubHubErrorCode;
+import com.clubhub.exception.ErrorPayload;
+import com.clubhub.exception.ValidationException;
+
+/**
+ * Opaque keyset pagination cursor made of a sort key and the row ID used as tie-breaker.
+ * Clients only ever see the encoded form and pass it back unchanged to fetch the next page.
+ */
+public record PageCursor(String key, UUID id) {
+
+	private static final char SEPARATOR = '\n';
+
+	public String encode() {
+		String raw = key + SEPARATOR + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Creates a cursor whose sort key is a timestamp.
+	 */
+	public static PageCursor of(LocalDateTime key, UUID id) {
+		return new PageCursor(key.toString(), id);
+	}
+
+	/**
+	 * Creates a cursor whose sort key is a search rank.
+	 */
+	public static PageCursor of(float key, UUID id) {
+		return new PageCursor(Float.toString(key), id);
+	}
+
+	/**
+	 * Reads the sort key of a cursor created by {@link #of(float, UUID)}.
+	 *
+	 * @throws ValidationException
+	 *     if the key is not a number
+	 */
+	public float floatKey() {
+		try {
+			return Float.parseFloat(key);
+		} catch (NumberFormatException e) {
+			throw invalid(encode());
+		}
+	}
+
+	/**
+	 * Reads the sort key of a cursor created by {@link #of(LocalDateTime, UUID)}.
+	 *
+	 * @throws ValidationException
+	 *     if the key is not a timestamp
+	 */
+	public LocalDateTime timestampKey() {
+		try {
+			return LocalDateTime.parse(key);
+		} catch (DateTimeParseException e) {
+			throw invalid(encode());
+		}
+	}
+
+	/**
+	 * Decodes a cursor previously produced by {@link #encode()}.
+	 *
+	 * @param cursor
+	 *     encoded cursor, may be {@code null}
+	 * @return the decoded cursor or {@code null} if none was given
+	 * @throws ValidationException
+	 *     if the cursor is malformed
+	 */
+	public static PageCursor decode(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return null;
+		}
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int split = raw.lastIndexOf(SEPARATOR);
+			return new PageCursor(raw.substring(0, split), UUID.fromString(raw.substring(split + 1)));
+		} catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+			throw invalid(cursor);
+		}
+	}
+
+	private static ValidationException invalid(String cursor) {
+		return new ValidationException(ErrorPayload.builder()
+				.errorCode(ClubHubErrorCode.INVALID_CURSOR)
+				.title("Invalid cursor")
+				.details("The pagination cursor is malformed.")
+				.messageParameter("cursor", cursor)
+				.sourcePointer("cursor")
+				.build());
+	}
+}
@@ -1,25 +1,34 @@
 package com.clubhub.service;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
-import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 
 import com.clubhub.entity.Club;
-import com.clubhub.entity.Member;
+import com.clubhub.entity.FeedItemType;
 import com.clubhub.entity.MemberRole;
 import com.clubhub.entity.Post;
+import com.clubhub.entity.PostSort;
 import com.clubhub.entity.User;
 import com.clubhub.entity.dto.PostDTO;
 import com.clubhub.exception.ClubHubErrorCode;
 import com.clubhub.exception.ErrorPayload;
 import com.clubhub.exception.NotFoundException;
 import com.clubhub.exception.ValidationException;
-import com.clubhub.repository.MemberRepository;
+import com.clubhub.repository.ClubRepository;
+import com.clubhub.repository.FeedRepository;
 import com.clubhub.repository.PostRepository;
+import com.clubhub.repository.PostSearchHit;
+import com.clubhub.repository.PostViewerState;
 
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 
@@ -29,9 +38,6 @@ public class PostService {
 	@Inject
 	PostRepository postRepository;
 
-	@Inject
-	EntityManager em;
-
 	@Inject
 	UserService userService;
 
@@ -39,7 +45,22 @@ public class PostService {
 	ClubService clubService;
 
 	@Inject
-	MemberRepository memberRepository;
+	MembershipService membershipService;
+
+	@Inject
+	ClubRepository clubRepository;
+
+	@Inject
+	ContentVersionBuffer contentVersions;
+
+	@Inject
+	FeedRepository feedRepository;
+
+	@Inject
+	ShareCounterBuffer shareCounterBuffer;
+
+	@Inject
+	FeedPushService feedPushService;
 
 	@Inject
 	ObjectStorageService objectStorageService;
@@ -47,13 +68,21 @@ public class PostService {
 	@ConfigProperty(name = "minio.post-bucket")
 	String postBucket;
 
+	@ConfigProperty(name = "clubhub.hot-feed.window-days", defaultValue = "7")
+	int hotFeedWindowDays;
+
 	@Transactional
 	public Post createPost(UUID clubId, Post post) {
-		Club club = clubService.getClubById(clubId);
+		Club club = clubService.getClubShallow(clubId);
 		post.setClub(club);
+		if (post.getTime() == null) {
+			post.setTime(LocalDateTime.now());
+		}
 		postRepository.save(post);
-		club.getPosts().add(post);
-		em.merge(club);
+		clubRepository.adjustPostsCount(clubId, 1);
+		contentVersions.markChanged(clubId);
+		feedRepository.fanOut(FeedItemType.POST, post.getId(), clubId, post.getTime());
+		feedPushService.publish(post);
 		return post;
 	}
 
@@ -71,108 +100,187 @@ public class PostService {
 		return post;
 	}
 
+	/**
+	 * Returns which of the given posts the user liked and bookmarked, with one query for the page.
+	 */
+	public PostViewerState getViewerState(UUID userId, Collection<UUID> postIds) {
+		return postRepository.findViewerState(userId, postIds);
+	}
+
+	/**
+	 * Likes a post. Liking twice is a no-op: the insert into {@code post_likes} is idempotent and the
+	 * counter only moves when a row was actually inserted, so concurrent likes never lose updates.
+	 */
 	@Transactional
 	public void like(UUID postId, UUID userId) {
-		Post p = getPost(postId);
-		User user = userService.getUserById(userId);
-		boolean isMember = memberRepository.existsByClubAndUser(p.getClub().getId(), userId);
-		if (!isMember) {
-			throw new ValidationException(ErrorPayload.builder()
-					.errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
-					.title("User not a member")
-					.details("User must be a member of the club to like posts.")
-					.messageParameter("postId", postId.toString())
-					.messageParameter("userId", userId.toString())
-					.build());
-		}
-		if (!postRepository.hasUserLikedPost(postId, userId)) {
-			p.getLikedBy().add(user);
-			p.setLikes(p.getLikedBy().size());
-			postRepository.update(p);
+		UUID clubId = requireMember(postId, userId, "like");
+		if (postRepository.insertLike(postId, userId)) {
+			postRepository.adjustLikes(postId, 1);
+			contentVersions.markChanged(clubId);
 		}
 	}
 
 	@Transactional
 	public void unlike(UUID postId, UUID userId) {
-		Post p = getPost(postId);
-		boolean isMember = memberRepository.existsByClubAndUser(p.getClub().getId(), userId);
-		if (!isMember) {
-			throw new ValidationException(ErrorPayload.builder()
-					.errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
-					.title("User not a member")
-					.details("User must be a member of the club to unlike posts.")
-					.messageParameter("postId", postId.toString())
-					.messageParameter("userId", userId.toString())
-					.build());
-		}
-		if (postRepository.hasUserLikedPost(postId, userId)) {
-			p.getLikedBy().removeIf(u -> u.getId().equals(userId));
-			p.setLikes(p.getLikedBy().size());
-			postRepository.update(p);
+		UUID clubId = requireMember(postId, userId, "unlike");
+		if (postRepository.deleteLike(postId, userId)) {
+			postRepository.adjustLikes(postId, -1);
+			contentVersions.markChanged(clubId);
 		}
 	}
 
 	@Transactional
 	public void bookmark(UUID postId, UUID userId) {
-		Post p = getPost(postId);
-		boolean isMember = memberRepository.existsByClubAndUser(p.getClub().getId(), userId);
-		if (!isMember) {
-			throw new ValidationException(ErrorPayload.builder()
-					.errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
-					.title("User not a member")
-					.details("User must be a member of the club to bookmark posts.")
-					.messageParameter("postId", postId.toString())
-					.messageParameter("userId", userId.toString())
-					.build());
-		}
-		User user = userService.getUserById(userId);
-		if (!postRepository.hasUserBookmarkedPost(postId, userId)) {
-			p.getBookmarkedBy().add(user);
-			p.setBookmarks(p.getBookmarkedBy().size());
-			postRepository.update(p);
+		UUID clubId = requireMember(postId, userId, "bookmark");
+		if (postRepository.insertBookmark(postId, userId)) {
+			postRepository.adjustBookmarks(postId, 1);
+			contentVersions.markChanged(clubId);
 		}
 	}
 
 	@Transactional
 	public void removeBookmark(UUID postId, UUID userId) {
-		Post p = getPost(postId);
-		boolean isMember = memberRepository.existsByClubAndUser(p.getClub().getId(), userId);
-		if (!isMember) {
+		UUID clubId = requireMember(postId, userId, "remove bookmarks from");
+		if (postRepository.deleteBookmark(postId, userId)) {
+			postRepository.adjustBookmarks(postId, -1);
+			contentVersions.markChanged(clubId);
+		}
+	}
+
+	/**
+	 * Casts a user's vote in a post's poll. Every user has one vote per poll: the insert into
+	 * {@code poll_vote} is idempotent and an option's tally only moves when a vote was actually
+	 * recorded, so repeated or concurrent requests never count twice. Voting again for the same
+	 * option is a no-op.
+	 *
+	 * @param option
+	 *     text of the chosen option
+	 * @throws ValidationException
+	 *     if the poll has no such option or the user already voted for another one
+	 */
+	@Transactional
+	public void vote(UUID postId, UUID userId, String option) {
+		UUID clubId = requireMember(postId, userId, "vote in");
+		if (option == null || option.isBlank()) {
+			throw invalidPollOption(postId, option);
+		}
+		if (postRepository.insertPollVote(postId, userId, option)) {
+			if (!postRepository.incrementPollVotes(postId, option)) {
+				// rolls back the vote inserted above
+				throw invalidPollOption(postId, option);
+			}
+			contentVersions.markChanged(clubId);
+			return;
+		}
+		if (!option.equals(postRepository.findPollVote(postId, userId))) {
 			throw new ValidationException(ErrorPayload.builder()
-					.errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
-					.title("User not a member")
-					.details("User must be a member of the club to remove bookmarks.")
+					.errorCode(ClubHubErrorCode.POLL_ALREADY_VOTED)
+					.title("Already voted")
+					.details("User already voted in the poll of post %s.".formatted(postId))
 					.messageParameter("postId", postId.toString())
 					.messageParameter("userId", userId.toString())
 					.build());
 		}
-		if (postRepository.hasUserBookmarkedPost(postId, userId)) {
-			p.getBookmarkedBy().removeIf(u -> u.getId().equals(userId));
-			p.setBookmarks(p.getBookmarkedBy().size());
-			postRepository.update(p);
-		}
 	}
 
-	@Transactional
-	public void share(UUID postId, UUID userId) {
-		Post p = getPost(postId);
-		boolean isMember = memberRepository.existsByClubAndUser(p.getClub().getId(), userId);
-		if (!isMember) {
+	private static ValidationException invalidPollOption(UUID postId, String option) {
+		return new ValidationException(ErrorPayload.builder()
+				.errorCode(ClubHubErrorCode.INVALID_POLL_OPTION)
+				.title("Invalid poll option")
+				.details("Post %s has no poll option '%s'.".formatted(postId, option))
+				.messageParameter("postId", postId.toString())
+				.messageParameter("option", String.valueOf(option))
+				.sourcePointer("option")
+				.build());
+	}
+
+	/**
+	 * Checks that the post exists and the user belongs to its club, without loading the post.
+	 *
+	 * @return the ID of the post's club
+	 */
+	private UUID requireMember(UUID postId, UUID userId, String action) {
+		UUID clubId = postRepository.findClubId(postId);
+		if (clubId == null) {
+			throw new NotFoundException(ErrorPayload.builder()
+					.errorCode(ClubHubErrorCode.POST_NOT_FOUND)
+					.title("Post not found")
+					.details("No post with id %s exists.".formatted(postId))
+					.messageParameter("postId", postId.toString())
+					.sourcePointer("postId")
+					.build());
+		}
+		if (!membershipService.isMember(clubId, userId)) {
 			throw new ValidationException(ErrorPayload.builder()
 					.errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
 					.title("User not a member")
-					.details("User must be a member of the club to share posts.")
+					.details("User must be a member of the club to %s posts.".formatted(action))
 					.messageParameter("postId", postId.toString())
 					.messageParameter("userId", userId.toString())
 					.build());
 		}
-		p.setShares(p.getShares() + 1);
-		postRepository.update(p);
+		return clubId;
+	}
+
+	/**
+	 * Counts a share of a post. The increment is buffered in memory and written to the database by
+	 * {@link ShareCounterBuffer}, so it shows up in {@code Post#getShares()} after the next flush.
+	 */
+	public void share(UUID postId, UUID userId) {
+		requireMember(postId, userId, "share");
+		shareCounterBuffer.increment(postId);
+	}
+
+	/**
+	 * Returns the shares of a post including those not yet flushed to the database.
+	 */
+	public long getShares(Post post) {
+		return post.getShares() + shareCounterBuffer.pending(post.getId());
 	}
 
 	public List<Post> getFeedForUser(UUID userId, int offset, int limit) {
 		userService.getUserById(userId);
-		return postRepository.findFeedForUser(userId, offset, limit);
+		return postRepository.findByIds(feedRepository.findItemIds(userId, FeedItemType.POST, offset, limit));
+	}
+
+	/**
+	 * Returns the page of the user's post feed that follows {@code cursor}, a {@code (time, id)} key
+	 * of the last post of the previous page.
+	 */
+	public List<Post> getFeedForUser(UUID userId, PageCursor cursor, int limit) {
+		userService.getUserById(userId);
+		return postRepository.findByIds(feedRepository.findItemIdsBefore(userId, FeedItemType.POST,
+				cursor.timestampKey(), cursor.id(), limit));
+	}
+
+	/**
+	 * A post found by {@link #search}, with the rank that orders the results.
+	 */
+	public record SearchHit(Post post, float rank) {
+	}
+
+	/**
+	 * Searches the content of the posts in the user's clubs, best matches first. Every term is
+	 * treated as a prefix.
+	 *
+	 * @param after
+	 *     {@code (rank, id)} key of the last hit of the previous page, {@code null} for the first page
+	 */
+	public List<SearchHit> search(UUID userId, String q, PageCursor after, int size) {
+		String tsQuery = ClubRepository.toPrefixTsQuery(q);
+		if (tsQuery == null) {
+			return List.of();
+		}
+		List<PostSearchHit> hits = after != null
+				? postRepository.search(userId, tsQuery, after.floatKey(), after.id(), size)
+				: postRepository.search(userId, tsQuery, null, null, size);
+		Map<UUID, Post> posts = postRepository.findByIds(hits.stream().map(PostSearchHit::postId).toList())
+				.stream()
+				.collect(Collectors.toMap(Post::getId, Function.identity()));
+		return hits.stream()
+				.filter(hit -> posts.containsKey(hit.postId()))
+				.map(hit -> new SearchHit(posts.get(hit.postId()), hit.rank()))
+				.toList();
 	}
 
 	public List<Post> getBookmarkedPosts(UUID userId, int offset, int limit) {
@@ -180,15 +288,34 @@ public class PostService {
 		return postRepository.findBookmarkedPostsByUser(userId, offset, limit);
 	}
 
-	public List<Post> getPostsForClub(UUID clubId, int offset, int limit) {
-		return postRepository.findByClub(clubId, offset, limit);
+	/**
+	 * Returns one page of the user's post feed ranked by engagement. Only posts published since
+	 * {@link #hotFeedSince()} are considered.
+	 */
+	public List<Post> getHotFeedForUser(UUID userId, int offset, int limit) {
+		userService.getUserById(userId);
+		return postRepository.findByIds(feedRepository.findHotPostIds(userId, hotFeedSince(), offset, limit));
+	}
+
+	/**
+	 * Returns the start of the hot feed window, {@code clubhub.hot-feed.window-days} days ago. It
+	 * moves in whole hours so that consecutive polls see the same window.
+	 */
+	public LocalDateTime hotFeedSince() {
+		return LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusDays(hotFeedWindowDays);
+	}
+
+	public List<Post> getPostsForClub(UUID clubId, PostSort sort, int offset, int limit) {
+		return sort == PostSort.HOT
+				? postRepository.findByClubHot(clubId, offset, limit)
+				: postRepository.findByClub(clubId, offset, limit);
 	}
 
 	@Transactional
 	public void updatePicture(UUID postId, UUID userId, byte[] picture, String contentType) {
 		Post post = getPost(postId);
-		Member membership = memberRepository.findByClubAndUser(post.getClub().getId(), userId);
-		if (membership == null) {
+		MemberRole role = membershipService.getRole(post.getClub().getId(), userId);
+		if (role == null) {
 			throw new ValidationException(ErrorPayload.builder()
 					.errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
 					.title("User not a member")
@@ -198,7 +325,7 @@ public class PostService {
 					.build());
 		}
 		boolean isAuthor = post.getAuthor() != null && post.getAuthor().getId().equals(userId);
-		if ((membership.getRole() == MemberRole.MEMBER || membership.getRole() == MemberRole.MODERATOR) && !isAuthor) {
+		if ((role == MemberRole.MEMBER || role == MemberRole.MODERATOR) && !isAuthor) {
 			throw new ValidationException(ErrorPayload.builder()
 					.errorCode(ClubHubErrorCode.INSUFFICIENT_PERMISSIONS)
 					.title("Insufficient permissions")
@@ -207,11 +334,11 @@ public class PostService {
 					.messageParameter("userId", userId.toString())
 					.build());
 		}
-		if (membership.getRole() == MemberRole.ADMIN && !isAuthor) {
-			Member authorMembership = post.getAuthor() != null
-					? memberRepository.findByClubAndUser(post.getClub().getId(), post.getAuthor().getId())
+		if (role == MemberRole.ADMIN && !isAuthor) {
+			MemberRole authorRole = post.getAuthor() != null
+					? membershipService.getRole(post.getClub().getId(), post.getAuthor().getId())
 					: null;
-			if (authorMembership != null && authorMembership.getRole() == MemberRole.MODERATOR) {
+			if (authorRole == MemberRole.MODERATOR) {
 				throw new ValidationException(ErrorPayload.builder()
 						.errorCode(ClubHubErrorCode.INSUFFICIENT_PERMISSIONS)
 						.title("Insufficient permissions")
@@ -226,13 +353,14 @@ public class PostService {
 		post.setPictureObject(stored.objectKey());
 		post.setPictureEtag(stored.etag());
 		postRepository.update(post);
+		contentVersions.markChanged(post.getClub().getId());
 	}
 
 	@Transactional
 	public void deletePicture(UUID postId, UUID userId) {
 		Post post = getPost(postId);
-		Member membership = memberRepository.findByClubAndUser(post.getClub().getId(), userId);
-		if (membership == null) {
+		MemberRole role = membershipService.getRole(post.getClub().getId(), userId);
+		if (role == null) {
 			throw new ValidationException(ErrorPayload.builder()
 					.errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
 					.title("User not a member")
@@ -242,7 +370,7 @@ public class PostService {
 					.build());
 		}
 		boolean isAuthor = post.getAuthor() != null && post.getAuthor().getId().equals(userId);
-		if ((membership.getRole() == MemberRole.MEMBER || membership.getRole() == MemberRole.MODERATOR) && !isAuthor) {
+		if ((role == MemberRole.MEMBER || role == MemberRole.MODERATOR) && !isAuthor) {
 			throw new ValidationException(ErrorPayload.builder()
 					.errorCode(ClubHubErrorCode.INSUFFICIENT_PERMISSIONS)
 					.title("Insufficient permissions")
@@ -251,11 +379,11 @@ public class PostService {
 					.messageParameter("userId", userId.toString())
 					.build());
 		}
-		if (membership.getRole() == MemberRole.ADMIN && !isAuthor) {
-			Member authorMembership = post.getAuthor() != null
-					? memberRepository.findByClubAndUser(post.getClub().getId(), post.getAuthor().getId())
+		if (role == MemberRole.ADMIN && !isAuthor) {
+			MemberRole authorRole = post.getAuthor() != null
+					? membershipService.getRole(post.getClub().getId(), post.getAuthor().getId())
 					: null;
-			if (authorMembership != null && authorMembership.getRole() == MemberRole.MODERATOR) {
+			if (authorRole == MemberRole.MODERATOR) {
 				throw new ValidationException(ErrorPayload.builder()
 						.errorCode(ClubHubErrorCode.INSUFFICIENT_PERMISSIONS)
 						.title("Insufficient permissions")
@@ -272,6 +400,7 @@ public class PostService {
 		post.setPictureObject(null);
 		post.setPictureEtag(null);
 		postRepository.update(post);
+		contentVersions.markChanged(post.getClub().getId());
 	}
 
 	@Transactional
@@ -287,8 +416,8 @@ public class PostService {
 					.build());
 		}
 		User user = userService.getUserById(userId);
-		Member membership = memberRepository.findByClubAndUser(post.getClub().getId(), userId);
-		if (membership == null) {
+		MemberRole role = membershipService.getRole(post.getClub().getId(), userId);
+		if (role == null) {
 			throw new ValidationException(ErrorPayload.builder()
 					.errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
 					.title("User not a member")
@@ -298,7 +427,7 @@ public class PostService {
 					.build());
 		}
 		boolean isAuthor = post.getAuthor() != null && post.getAuthor().getId().equals(user.getId());
-		if ((membership.getRole() == MemberRole.MEMBER || membership.getRole() == MemberRole.MODERATOR) && !isAuthor) {
+		if ((role == MemberRole.MEMBER || role == MemberRole.MODERATOR) && !isAuthor) {
 			throw new ValidationException(ErrorPayload.builder()
 					.errorCode(ClubHubErrorCode.INSUFFICIENT_PERMISSIONS)
 					.title("Insufficient permissions")
@@ -307,11 +436,11 @@ public class PostService {
 					.messageParameter("userId", userId.toString())
 					.build());
 		}
-		if (membership.getRole() == MemberRole.ADMIN && !isAuthor) {
-			Member authorMembership = post.getAuthor() != null
-					? memberRepository.findByClubAndUser(post.getClub().getId(), post.getAuthor().getId())
+		if (role == MemberRole.ADMIN && !isAuthor) {
+			MemberRole authorRole = post.getAuthor() != null
+					? membershipService.getRole(post.getClub().getId(), post.getAuthor().getId())
 					: null;
-			if (authorMembership != null && authorMembership.getRole() == MemberRole.MODERATOR) {
+			if (authorRole == MemberRole.MODERATOR) {
 				throw new ValidationException(ErrorPayload.builder()
 						.errorCode(ClubHubErrorCode.INSUFFICIENT_PERMISSIONS)
 						.title("Insufficient permissions")
@@ -323,6 +452,7 @@ public class PostService {
 		}
 		post.setContent(dto.getContent());
 		postRepository.update(post);
+		contentVersions.markChanged(post.getClub().getId());
 	}
 
 	@Transactional
@@ -338,8 +468,8 @@ public class PostService {
 					.build());
 		}
 		User user = userService.getUserById(userId);
-		Member membership = memberRepository.findByClubAndUser(post.getClub().getId(), userId);
-		if (membership == null) {
+		MemberRole role = membershipService.getRole(post.getClub().getId(), userId);
+		if (role == null) {
 			throw new ValidationException(ErrorPayload.builder()
 					.errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
 					.title("User not a member")
@@ -349,7 +479,7 @@ public class PostService {
 					.build());
 		}
 		boolean isAuthor = post.getAuthor() != null && post.getAuthor().getId().equals(user.getId());
-		if (membership.getRole() != MemberRole.ADMIN && !isAuthor) {
+		if (role != MemberRole.ADMIN && !isAuthor) {
 			throw new ValidationException(ErrorPayload.builder()
 					.errorCode(ClubHubErrorCode.INSUFFICIENT_PERMISSIONS)
 					.title("Insufficient permissions")
@@ -358,9 +488,9 @@ public class PostService {
 					.messageParameter("userId", userId.toString())
 					.build());
 		}
-		Club club = post.getClub();
-		club.getPosts().remove(post);
 		postRepository.delete(postId);
-		em.merge(club);
+		clubRepository.adjustPostsCount(clubId, -1);
+		contentVersions.markChanged(clubId);
+		feedRepository.deleteItem(FeedItemType.POST, postId);
 	}
 }
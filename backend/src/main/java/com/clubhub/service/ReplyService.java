@@ -8,7 +8,6 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 
-import com.clubhub.entity.Member;
 import com.clubhub.entity.MemberRole;
 import com.clubhub.entity.Reply;
 import com.clubhub.entity.User;
@@ -25,6 +24,9 @@ public class ReplyService {
 	@Inject
 	ReplyRepository replyRepository;
 
+	@Inject
+	MembershipService membershipService;
+
 	@Inject
 	ForumThreadService threadService;
 
@@ -37,8 +39,7 @@ public class ReplyService {
         public List<Reply> getReplies(UUID threadId, UUID userId, int offset, int limit) {
                 var thread = threadService.getThread(threadId);
                 var club = thread.getClub();
-                boolean isMember = club.getMembersList().stream()
-                                .anyMatch(m -> m.getUser() != null && m.getUser().getId().equals(userId));
+                boolean isMember = membershipService.isMember(club.getId(), userId);
                 if (!isMember) {
                         throw new ValidationException(ErrorPayload.builder()
                                         .errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
@@ -69,8 +70,7 @@ public class ReplyService {
 	public Reply addReply(UUID threadId, UUID userId, String content) {
 		var thread = threadService.getThread(threadId);
 		var club = thread.getClub();
-		boolean isMember = club.getMembersList().stream()
-				.anyMatch(m -> m.getUser() != null && m.getUser().getId().equals(userId));
+		boolean isMember = membershipService.isMember(club.getId(), userId);
 		if (!isMember) {
 			throw new ValidationException(ErrorPayload.builder()
 					.errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
@@ -101,8 +101,7 @@ public class ReplyService {
 	public void upvote(UUID replyId, UUID userId) {
 		Reply r = getReply(replyId);
 		var club = r.getThread().getClub();
-		boolean isMember = club.getMembersList().stream()
-				.anyMatch(m -> m.getUser() != null && m.getUser().getId().equals(userId));
+		boolean isMember = membershipService.isMember(club.getId(), userId);
 		if (!isMember) {
 			throw new ValidationException(ErrorPayload.builder()
 					.errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
@@ -126,8 +125,7 @@ public class ReplyService {
 	public void removeUpvote(UUID replyId, UUID userId) {
 		Reply r = getReply(replyId);
 		var club = r.getThread().getClub();
-		boolean isMember = club.getMembersList().stream()
-				.anyMatch(m -> m.getUser() != null && m.getUser().getId().equals(userId));
+		boolean isMember = membershipService.isMember(club.getId(), userId);
 		if (!isMember) {
 			throw new ValidationException(ErrorPayload.builder()
 					.errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
@@ -146,8 +144,7 @@ public class ReplyService {
 	public void downvote(UUID replyId, UUID userId) {
 		Reply r = getReply(replyId);
 		var club = r.getThread().getClub();
-		boolean isMember = club.getMembersList().stream()
-				.anyMatch(m -> m.getUser() != null && m.getUser().getId().equals(userId));
+		boolean isMember = membershipService.isMember(club.getId(), userId);
 		if (!isMember) {
 			throw new ValidationException(ErrorPayload.builder()
 					.errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
@@ -171,8 +168,7 @@ public class ReplyService {
 	public void removeDownvote(UUID replyId, UUID userId) {
 		Reply r = getReply(replyId);
 		var club = r.getThread().getClub();
-		boolean isMember = club.getMembersList().stream()
-				.anyMatch(m -> m.getUser() != null && m.getUser().getId().equals(userId));
+		boolean isMember = membershipService.isMember(club.getId(), userId);
 		if (!isMember) {
 			throw new ValidationException(ErrorPayload.builder()
 					.errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
@@ -192,10 +188,8 @@ public class ReplyService {
 		Reply reply = getReply(replyId);
 		User user = userService.getUserById(userId);
 		var club = reply.getThread().getClub();
-		Member membership = club.getMembersList().stream()
-				.filter(m -> m.getUser() != null && m.getUser().getId().equals(userId))
-				.findFirst().orElse(null);
-		if (membership == null) {
+		MemberRole role = membershipService.getRole(club.getId(), userId);
+		if (role == null) {
 			throw new ValidationException(ErrorPayload.builder()
 					.errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
 					.title("User not a member")
@@ -222,10 +216,8 @@ public class ReplyService {
 		Reply reply = getReply(replyId);
 		User user = userService.getUserById(userId);
 		var club = reply.getThread().getClub();
-		Member membership = club.getMembersList().stream()
-				.filter(m -> m.getUser() != null && m.getUser().getId().equals(userId))
-				.findFirst().orElse(null);
-		if (membership == null) {
+		MemberRole role = membershipService.getRole(club.getId(), userId);
+		if (role == null) {
 			throw new ValidationException(ErrorPayload.builder()
 					.errorCode(ClubHubErrorCode.USER_NOT_MEMBER_OF_CLUB)
 					.title("User not a member")
@@ -235,7 +227,7 @@ public class ReplyService {
 					.build());
 		}
 		boolean isAuthor = reply.getAuthor().getId().equals(user.getId());
-		if (!isAuthor && membership.getRole() == MemberRole.MEMBER) {
+		if (!isAuthor && role == MemberRole.MEMBER) {
 			throw new ValidationException(ErrorPayload.builder()
 					.errorCode(ClubHubErrorCode.INSUFFICIENT_PERMISSIONS)
 					.title("Insufficient permissions")
@@ -0,0 +1,130 @@
+package com.clubhub.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+import com.clubhub.repository.PostRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.logging.Log;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.scheduler.Scheduled;
+
+/**
+ * Write-behind buffer for post share counts. Shares are absorbed by a {@link LongAdder} per post,
+ * so a viral post does not serialize every click on one database row, and are written out
+ * periodically as one batch of {@code UPDATE post SET shares = shares + ?} statements. Pending
+ * shares are flushed once more on shutdown.
+ */
+@ApplicationScoped
+public class ShareCounterBuffer {
+
+	private final ConcurrentHashMap<UUID, LongAdder> pending = new ConcurrentHashMap<>();
+
+	@Inject
+	PostRepository postRepository;
+
+	@Inject
+	ContentVersionBuffer contentVersions;
+
+	@Inject
+	MeterRegistry registry;
+
+	private Timer flushTimer;
+
+	@PostConstruct
+	void init() {
+		Gauge.builder("clubhub.share_buffer.posts", pending, Map::size)
+				.description("Posts with shares waiting to be flushed")
+				.register(registry);
+		Gauge.builder("clubhub.share_buffer.shares", this, buffer -> buffer.pendingTotal())
+				.description("Shares waiting to be flushed")
+				.register(registry);
+		flushTimer = Timer.builder("clubhub.share_buffer.flush")
+				.description("Time taken to write buffered shares to the database")
+				.register(registry);
+	}
+
+	/**
+	 * Records one share of a post. The increment happens inside {@code compute} so it cannot race
+	 * with {@link #drain()} removing the post's idle adder.
+	 */
+	public void increment(UUID postId) {
+		add(postId, 1);
+	}
+
+	/**
+	 * Returns the shares of a post that are not yet written to the database.
+	 */
+	public long pending(UUID postId) {
+		LongAdder adder = pending.get(postId);
+		return adder != null ? adder.sum() : 0;
+	}
+
+	private long pendingTotal() {
+		return pending.values().stream().mapToLong(LongAdder::sum).sum();
+	}
+
+	@Scheduled(every = "${clubhub.share-buffer.flush-interval:5s}",
+			concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+	void scheduledFlush() {
+		flush();
+	}
+
+	void onStop(@Observes ShutdownEvent event) {
+		flush();
+	}
+
+	/**
+	 * Writes all buffered shares in one transaction. If the write fails, the drained counts are put
+	 * back so the next flush retries them.
+	 */
+	synchronized void flush() {
+		Map<UUID, Long> deltas = drain();
+		if (deltas.isEmpty()) {
+			return;
+		}
+		try {
+			flushTimer.record(() -> QuarkusTransaction.requiringNew().run(() -> {
+				postRepository.addShares(deltas);
+				contentVersions.markChanged(postRepository.findClubIds(deltas.keySet()));
+			}));
+		} catch (RuntimeException e) {
+			Log.warnf(e, "Failed to flush shares of %d posts, retrying with the next flush", deltas.size());
+			deltas.forEach(this::add);
+		}
+	}
+
+	private void add(UUID postId, long delta) {
+		pending.compute(postId, (id, adder) -> {
+			LongAdder target = adder != null ? adder : new LongAdder();
+			target.add(delta);
+			return target;
+		});
+	}
+
+	private Map<UUID, Long> drain() {
+		Map<UUID, Long> deltas = new HashMap<>();
+		pending.forEach((postId, adder) -> {
+			long delta = adder.sumThenReset();
+			if (delta != 0) {
+				deltas.put(postId, delta);
+			} else {
+				// increments run inside compute as well, so none can slip in before the removal
+				pending.computeIfPresent(postId, (id, current) -> current.sum() == 0 ? null : current);
+			}
+		});
+		return deltas;
+	}
+}
@@ -0,0 +1,25 @@
+-- "hot" ranking: log-scaled engagement plus a creation-time bonus that grows by one point every
+-- 12.5 hours, so newer posts need less engagement to rank equally. The score of a post only changes
+-- when its counters do, which lets the scheduler recompute just the rows marked dirty.
+CREATE OR REPLACE FUNCTION post_hot_score(likes INTEGER, comments INTEGER, bookmarks INTEGER,
+                                          shares INTEGER, created TIMESTAMP)
+    RETURNS DOUBLE PRECISION
+    LANGUAGE SQL
+    IMMUTABLE
+AS
+$$
+SELECT LOG(GREATEST(likes + 2 * comments + 2 * bookmarks + 3 * shares, 1))
+           + (EXTRACT(EPOCH FROM COALESCE(created, TIMESTAMP '2024-01-01')) - 1704067200) / 45000
+$$;
+
+ALTER TABLE post
+    ADD COLUMN hot_score       DOUBLE PRECISION NOT NULL DEFAULT 0,
+    ADD COLUMN hot_score_dirty BOOLEAN          NOT NULL DEFAULT true;
+
+UPDATE post
+SET hot_score       = post_hot_score(likes, comments, bookmarks, shares, time),
+    hot_score_dirty = false;
+
+-- the scheduler only ever looks at dirty rows
+CREATE INDEX IF NOT EXISTS idx_post_hot_score_dirty ON post (id) WHERE hot_score_dirty;
+CREATE INDEX IF NOT EXISTS idx_post_club_hot ON post (club_id, hot_score DESC, id);
@@ -0,0 +1,4 @@
+-- bumped by every write that changes what a club's post and event lists or its members' feeds
+-- show; list endpoints derive their ETags from it
+ALTER TABLE clubs
+    ADD COLUMN content_version BIGINT NOT NULL DEFAULT 0;
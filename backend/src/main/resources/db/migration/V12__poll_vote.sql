@@ -0,0 +1,14 @@
+-- one vote per user and poll; the primary key rejects duplicates, even under concurrent votes
+CREATE TABLE poll_vote (
+    post_id     UUID      NOT NULL REFERENCES post (id) ON DELETE CASCADE,
+    user_id     UUID      NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    option_text VARCHAR   NOT NULL,
+    voted_at    TIMESTAMP NOT NULL DEFAULT now(),
+    PRIMARY KEY (post_id, user_id)
+);
+
+-- tallies are incremented in place with votes = votes + 1
+UPDATE post_poll_options SET votes = 0 WHERE votes IS NULL;
+ALTER TABLE post_poll_options
+    ALTER COLUMN votes SET DEFAULT 0,
+    ALTER COLUMN votes SET NOT NULL;
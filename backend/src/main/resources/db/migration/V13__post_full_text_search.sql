@@ -0,0 +1,6 @@
+ALTER TABLE post
+    ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+        to_tsvector('simple', coalesce(content, ''))
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_post_search_vector ON post USING GIN (search_vector);
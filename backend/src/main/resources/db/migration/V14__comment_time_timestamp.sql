@@ -0,0 +1,14 @@
+-- comment.time held LocalDateTime.toString() text; store it as a real timestamp so it sorts
+-- chronologically and can back a keyset index
+ALTER TABLE comment
+    ALTER COLUMN time TYPE TIMESTAMP USING NULLIF(trim(time), '')::TIMESTAMP;
+
+UPDATE comment c
+SET time = COALESCE((SELECT p.time FROM post p WHERE p.id = c.post_id), TIMESTAMP '1970-01-01')
+WHERE c.time IS NULL;
+
+ALTER TABLE comment
+    ALTER COLUMN time SET NOT NULL;
+
+-- oldest-first keyset pages of a post's comments
+CREATE INDEX IF NOT EXISTS idx_comment_post_time ON comment (post_id, time, id);
@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_clubs_name_id ON clubs (name, id);
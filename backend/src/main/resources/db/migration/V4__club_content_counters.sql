@@ -0,0 +1,10 @@
+ALTER TABLE clubs
+    ADD COLUMN events_count  INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN posts_count   INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN threads_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE clubs c
+SET events_count  = (SELECT COUNT(*) FROM event e WHERE e.club_id = c.id),
+    posts_count   = (SELECT COUNT(*) FROM post p WHERE p.club_id = c.id),
+    threads_count = (SELECT COUNT(*) FROM forumthread t WHERE t.club_id = c.id),
+    members       = (SELECT COUNT(*) FROM member m WHERE m.club_id = c.id);
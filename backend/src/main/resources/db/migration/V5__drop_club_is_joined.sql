@@ -0,0 +1,2 @@
+-- "joined" depends on the viewer and is computed per request from the member table
+ALTER TABLE clubs DROP COLUMN is_joined;
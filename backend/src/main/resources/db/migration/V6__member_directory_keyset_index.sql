@@ -0,0 +1,4 @@
+-- the member directory pages by (joined_at, id); rows from before joined_at was always set would sort unpredictably
+UPDATE member SET joined_at = now() WHERE joined_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_member_club_joined ON member (club_id, joined_at, id);
@@ -0,0 +1,19 @@
+-- keep one membership per user and club: the highest role, then the earliest join
+DELETE FROM member m
+USING (
+    SELECT id,
+           ROW_NUMBER() OVER (
+               PARTITION BY club_id, user_id
+               ORDER BY CASE role WHEN 'ADMIN' THEN 0 WHEN 'MODERATOR' THEN 1 ELSE 2 END, joined_at, id
+           ) AS rn
+    FROM member
+) ranked
+WHERE m.id = ranked.id AND ranked.rn > 1;
+
+UPDATE clubs c
+SET members = (SELECT COUNT(*) FROM member m WHERE m.club_id = c.id);
+
+ALTER TABLE member ADD CONSTRAINT uq_member_club_user UNIQUE (club_id, user_id);
+
+-- the unique constraint's index covers (club_id, user_id) lookups
+DROP INDEX IF EXISTS idx_member_club_user;
@@ -0,0 +1,25 @@
+-- materialized per-user timeline, written when a post or event is created
+CREATE TABLE feed_entry (
+    user_id   UUID      NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    item_type VARCHAR   NOT NULL,
+    ts        TIMESTAMP NOT NULL,
+    item_id   UUID      NOT NULL,
+    club_id   UUID      NOT NULL REFERENCES clubs (id) ON DELETE CASCADE,
+    PRIMARY KEY (user_id, item_type, ts, item_id)
+);
+
+-- removing a post or event drops its entries from every timeline
+CREATE INDEX IF NOT EXISTS idx_feed_entry_item ON feed_entry (item_id);
+
+-- members only see what was published after they joined
+INSERT INTO feed_entry (user_id, item_type, ts, item_id, club_id)
+SELECT m.user_id, 'POST', p.time, p.id, p.club_id
+FROM post p
+JOIN member m ON m.club_id = p.club_id
+WHERE p.time IS NOT NULL AND p.time >= m.joined_at;
+
+INSERT INTO feed_entry (user_id, item_type, ts, item_id, club_id)
+SELECT m.user_id, 'EVENT', e.created_at, e.id, e.club_id
+FROM event e
+JOIN member m ON m.club_id = e.club_id
+WHERE e.created_at IS NOT NULL AND e.created_at >= m.joined_at;
@@ -0,0 +1,3 @@
+-- newest-first keyset pages of a club's posts and events
+CREATE INDEX IF NOT EXISTS idx_post_club_time ON post (club_id, time DESC, id);
+CREATE INDEX IF NOT EXISTS idx_event_club_created ON event (club_id, created_at DESC, id);
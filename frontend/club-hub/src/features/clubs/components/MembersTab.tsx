@@ -1,5 +1,5 @@
 // src/features/clubs/components/MembersTab.tsx
-import React, { useState, useEffect, useMemo } from 'react';
+import React, { useState, useEffect } from 'react';
 import { useNavigate } from 'react-router-dom';
 import { Grid, List } from 'lucide-react';
 import { Club, Member, Role } from '../types';
@@ -19,6 +19,8 @@ const ROLE_COLORS: Record<Role, string> = {
   MEMBER: 'bg-green-100 text-green-800',
 };
 
+const PAGE_SIZE = 30;
+
 /** Props for the club Members tab. */
 interface MembersTabProps {
   club: Club;
@@ -31,24 +33,42 @@ interface MembersTabProps {
  */
 export default function MembersTab({ club, onUpdate, currentUserRole }: MembersTabProps) {
   const navigate = useNavigate();
-  const [members, setMembers] = useState<Member[]>(club.members_list);
+  const [members, setMembers] = useState<Member[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | undefined>();
   const [view, setView]     = useState<'grid'|'list'>('grid');
   const [search, setSearch] = useState('');
   const { user } = useProfile();
 
-  // Sync props → state
+  // Members are paged from the server; the search box is a username prefix
   useEffect(() => {
-    setMembers(club.members_list);
-  }, [club.members_list]);
+    let cancelled = false;
+    clubService
+      .listMembers(club.id, { prefix: search.trim() || undefined, size: PAGE_SIZE })
+      .then(page => {
+        if (cancelled) return;
+        setMembers(page.members);
+        setNextCursor(page.nextCursor);
+      })
+      .catch(err => console.error(err));
+    return () => {
+      cancelled = true;
+    };
+  }, [club.id, search]);
 
-  // Filter by name/role
-  const filtered = useMemo(() => {
-    const q = search.toLowerCase();
-    return members.filter(m =>
-      m.name.toLowerCase().includes(q) ||
-      m.role.toLowerCase().includes(q)
-    );
-  }, [members, search]);
+  const loadMore = async () => {
+    if (!nextCursor) return;
+    try {
+      const page = await clubService.listMembers(club.id, {
+        prefix: search.trim() || undefined,
+        cursor: nextCursor,
+        size: PAGE_SIZE,
+      });
+      setMembers(prev => [...prev, ...page.members]);
+      setNextCursor(page.nextCursor);
+    } catch (err) {
+      console.error(err);
+    }
+  };
 
   const handleRoleChange = async (id: number | string, newRole: Role) => {
     const target = members.find(m => m.id === id);
@@ -99,7 +119,7 @@ export default function MembersTab({ club, onUpdate, currentUserRole }: MembersT
 
       {view === 'grid' ? (
         <div className="grid grid-cols-1 sm:grid-cols-2 md:grid-cols-3 gap-4">
-          {filtered.map(member => {
+          {members.map(member => {
             const isSelf = String(member.userId) === String(user?.id);
             return (
               <div
@@ -138,7 +158,7 @@ export default function MembersTab({ club, onUpdate, currentUserRole }: MembersT
         </div>
       ) : (
         <div className="space-y-2">
-          {filtered.map(member => {
+          {members.map(member => {
             const isSelf = String(member.userId) === String(user?.id);
             return (
               <div
@@ -178,6 +198,17 @@ export default function MembersTab({ club, onUpdate, currentUserRole }: MembersT
           })}
         </div>
       )}
+
+      {nextCursor && (
+        <div className="flex justify-center">
+          <button
+            onClick={loadMore}
+            className="px-4 py-2 rounded-lg border border-gray-300 text-gray-700 hover:bg-gray-100"
+          >
+            Load more
+          </button>
+        </div>
+      )}
     </div>
   );
 }
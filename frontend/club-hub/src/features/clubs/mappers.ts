@@ -14,7 +14,7 @@ export function mapClub(dto: any): Club {
     interest: dto.interest ?? Preference.NONE,
     avatar,
     members: dto.membersCount ?? dto.members ?? 0,
-    isJoined: !!dto.isJoined,
+    isJoined: !!(dto.joined ?? dto.isJoined),
 
     events: (dto.events ?? []).map(mapEvent),
     members_list: (dto.membersList ?? dto.members_list ?? []).map(mapMember),
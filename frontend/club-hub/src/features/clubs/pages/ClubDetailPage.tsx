@@ -82,8 +82,7 @@ export default function ClubDetailPage() {
         if (!c) return setClub(null);
         const joined =
           c.isJoined ||
-          !!user?.memberships.some(m => m.clubId === c.id) ||
-          c.members_list.some(m => String(m.userId) === String(user?.id));
+          !!user?.memberships.some(m => m.clubId === c.id);
         setClub({ ...c, isJoined: joined });
       })
       .catch(err => setError(err?.message ?? 'Failed to load club'))
@@ -225,8 +224,7 @@ export default function ClubDetailPage() {
       // Preserve or recompute joined flag to avoid losing tabs after save
       const joined =
         updated.isJoined ||
-        prev?.isJoined ||
-        (updated.members_list ?? []).some(m => String(m.userId) === String(user?.id));
+        prev?.isJoined;
       // Preserve lists if backend doesn't include them in update response
       const events = (updated as any).events ?? prev?.events ?? [];
       const members_list = (updated as any).members_list ?? prev?.members_list ?? [];
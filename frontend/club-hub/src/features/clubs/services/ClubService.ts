@@ -1,7 +1,7 @@
 import { BaseService } from '../../../services/BaseService';
-import type { Club, Event as ClubEvent, Post, Comment, Role } from '../types';
+import type { Club, Event as ClubEvent, Post, Comment, Member, Role } from '../types';
 import { Subject, Preference } from '../../profile/types';
-import { mapClub, mapEvent, mapPost, mapComment, mapThread } from '../mappers';
+import { mapClub, mapEvent, mapPost, mapComment, mapThread, mapMember } from '../mappers';
 
 /** Query parameters used to search/filter clubs. */
 export interface ClubSearchParams {
@@ -347,6 +347,21 @@ export class ClubService extends BaseService {
     await this.api.request<void>(`/clubs/${clubId}/events/${eventId}/leave`, { method: 'POST' });
   }
 
+  /** List a page of club members in join order; pass `nextCursor` back to continue. */
+  async listMembers(
+    clubId: string,
+    params: { role?: Role; prefix?: string; cursor?: string; size?: number } = {}
+  ): Promise<{ members: Member[]; nextCursor?: string }> {
+    const search = new URLSearchParams();
+    if (params.role) search.set('role', params.role);
+    if (params.prefix) search.set('prefix', params.prefix);
+    if (params.cursor) search.set('cursor', params.cursor);
+    if (params.size !== undefined) search.set('size', String(params.size));
+    const query = search.toString();
+    const dto = await this.api.request<any>(`/clubs/${clubId}/members${query ? `?${query}` : ''}`);
+    return { members: (dto?.members ?? []).map(mapMember), nextCursor: dto?.nextCursor ?? undefined };
+  }
+
   /** Change a member's role within the club. */
   async updateMemberRole(clubId: string, memberId: number | string, role: Role): Promise<void> {
     await this.api.request<void>(`/clubs/${clubId}/members/${memberId}/role`, {
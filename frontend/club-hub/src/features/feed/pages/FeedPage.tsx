@@ -43,15 +43,13 @@ export default function FeedPage() {
   const [items, setItems] = useState<FeedItem[]>([]);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState<string | null>(null);
-  const [offset, setOffset] = useState(0);
   const [hasMore, setHasMore] = useState(true);
   const [loadingMore, setLoadingMore] = useState(false);
   const inFlightRef = useRef(false); // prevents duplicate concurrent loads
   const hasMoreRef = useRef(true);
-  const offsetRef = useRef(0);
+  const cursorRef = useRef<string | undefined>(undefined);
   const loaderElRef = useRef<HTMLDivElement | null>(null);
   useEffect(() => { hasMoreRef.current = hasMore; }, [hasMore]);
-  useEffect(() => { offsetRef.current = offset; }, [offset]);
   const [activeTab, setActiveTab] = useState<'events' | 'posts'>('posts');
 
   const loadMore = useCallback(async () => {
@@ -60,9 +58,7 @@ export default function FeedPage() {
     setLoadingMore(true);
     setError(null);
     try {
-      const limit = 10;
-      const currentOffset = offsetRef.current;
-      const next = await feedService.getPage(currentOffset, limit);
+      const { items: next, nextCursor } = await feedService.getStream(cursorRef.current, 10);
       setItems(prev => {
         const existing = new Set(
           prev.map(i => (isEvent(i) ? `event-${i.id}` : (i as FeedPost).id))
@@ -77,9 +73,8 @@ export default function FeedPage() {
         });
         return [...prev, ...filtered];
       });
-      // Step the offset by limit to avoid overlap
-      setOffset(o => o + limit);
-      if (next.length < limit) setHasMore(false);
+      cursorRef.current = nextCursor;
+      if (!nextCursor) setHasMore(false);
     } catch (err) {
       const message = err instanceof Error ? err.message : 'Failed to load feed';
       setError(message);
@@ -27,6 +27,62 @@ export interface FeedEventItem {
 /** Union of all possible feed items. */
 export type FeedItem = FeedPost | FeedEventItem;
 
+/** Normalize a backend post DTO into a feed post. */
+function mapFeedPost(p: any): FeedPost {
+  return {
+    id: p.id,
+    clubId: p.club?.id ?? p.clubId ?? '',
+    clubName: p.club?.name ?? '',
+    clubImage: p.club?.image ?? '',
+    author: p.author?.username ?? p.author ?? 'Unknown',
+    authorAvatar: p.author?.avatar ?? '',
+    content: p.content,
+    likes: p.likes ?? 0,
+    liked: p.liked ?? p.likedByUser ?? p.likedByMe ?? false,
+    comments: p.comments ?? 0,
+    time: p.time,
+    picture: p.picture ?? p.photo,
+    commentsList: (p.commentsList ?? []).map((c: any) => ({
+      id: c.id,
+      author: {
+        id: c.author?.id ?? c.authorId ?? c.userId ?? '',
+        username: c.author?.username ?? c.author ?? 'Unknown',
+        avatar: c.author?.avatar ?? c.avatar ?? '',
+      },
+      content: c.content ?? '',
+      time: c.time ?? c.createdAt ?? '',
+      likes: c.likes ?? 0,
+      liked: c.liked ?? c.likedByUser ?? c.likedByMe ?? false,
+    })),
+  };
+}
+
+/** Normalize a backend event DTO into a feed event item. */
+function mapFeedEvent(e: any): FeedEventItem {
+  return {
+    type: 'event',
+    id: e.id,
+    clubId: e.clubId ?? e.club?.id ?? '',
+    clubName: e.club?.name ?? '',
+    // Prefer avatar, fallback to image if provided
+    clubImage: e.club?.avatar ?? e.club?.image ?? '',
+    isJoinedClub: e.club?.isJoined ?? false,
+    title: e.title,
+    date: e.date,
+    time: e.time,
+    location: e.location,
+    description: e.description,
+    joinedCount: e.attendeesCount ?? e.attendees?.length ?? e.joinedCount ?? 0,
+    attendees: (e.attendees ?? []).map((a: any) => ({
+      id: a.id ?? a.userId ?? '',
+      name: a.name ?? a.username ?? '',
+      surname: a.surname ?? '',
+      email: a.email ?? '',
+      avatar: a.avatar ?? '',
+    })),
+  };
+}
+
 export class FeedService extends BaseService {
   /**
    * Fetch a page of the global feed.
@@ -48,55 +104,8 @@ export class FeedService extends BaseService {
     const postsData = Array.isArray((res as any)?.posts) ? (res as any).posts : [];
     const eventsData = Array.isArray((res as any)?.events) ? (res as any).events : [];
 
-    const posts: FeedPost[] = postsData.map((p: any) => ({
-      id: p.id,
-      clubId: p.club?.id ?? p.clubId ?? '',
-      clubName: p.club?.name ?? '',
-      clubImage: p.club?.image ?? '',
-      author: p.author?.username ?? p.author ?? 'Unknown',
-      authorAvatar: p.author?.avatar ?? '',
-      content: p.content,
-      likes: p.likes ?? 0,
-      liked: p.liked ?? p.likedByUser ?? p.likedByMe ?? false,
-      comments: p.comments ?? 0,
-      time: p.time,
-      picture: p.picture ?? p.photo,
-      commentsList: (p.commentsList ?? []).map((c: any) => ({
-        id: c.id,
-        author: {
-          id: c.author?.id ?? c.authorId ?? c.userId ?? '',
-          username: c.author?.username ?? c.author ?? 'Unknown',
-          avatar: c.author?.avatar ?? c.avatar ?? '',
-        },
-        content: c.content ?? '',
-        time: c.time ?? c.createdAt ?? '',
-        likes: c.likes ?? 0,
-        liked: c.liked ?? c.likedByUser ?? c.likedByMe ?? false,
-      })),
-    }));
-
-    const events: FeedEventItem[] = eventsData.map((e: any) => ({
-      type: 'event',
-      id: e.id,
-      clubId: e.clubId ?? e.club?.id ?? '',
-      clubName: e.club?.name ?? '',
-      // Prefer avatar, fallback to image if provided
-      clubImage: e.club?.avatar ?? e.club?.image ?? '',
-      isJoinedClub: e.club?.isJoined ?? false,
-      title: e.title,
-      date: e.date,
-      time: e.time,
-      location: e.location,
-      description: e.description,
-      joinedCount: e.attendeesCount ?? e.attendees?.length ?? e.joinedCount ?? 0,
-      attendees: (e.attendees ?? []).map((a: any) => ({
-        id: a.id ?? a.userId ?? '',
-        name: a.name ?? a.username ?? '',
-        surname: a.surname ?? '',
-        email: a.email ?? '',
-        avatar: a.avatar ?? '',
-      })),
-    }));
+    const posts: FeedPost[] = postsData.map(mapFeedPost);
+    const events: FeedEventItem[] = eventsData.map(mapFeedEvent);
 
     // Even if both posts and events arrays are empty we should return an empty array
     // rather than throwing an error. An empty feed is a valid state (e.g. a user
@@ -105,6 +114,23 @@ export class FeedService extends BaseService {
     return [...posts, ...events];
   }
 
+  /**
+   * Fetch a page of the merged feed: posts and events interleaved by time on the server.
+   * Pass the returned `nextCursor` to get the following page; it is absent on the last page.
+   */
+  async getStream(cursor?: string, size = 10): Promise<{ items: FeedItem[]; nextCursor?: string }> {
+    const params = new URLSearchParams();
+    if (cursor) params.set('cursor', cursor);
+    params.set('size', String(size));
+    const res = await this.api.request<{ items?: any[]; nextCursor?: string }>(
+      `/feed/stream?${params.toString()}`
+    );
+    const items: FeedItem[] = (res?.items ?? []).map((item: any) =>
+      item.type === 'EVENT' ? mapFeedEvent(item.event) : mapFeedPost(item.post)
+    );
+    return { items, nextCursor: res?.nextCursor ?? undefined };
+  }
+
   /** Create a new post in the feed. */
   async addPost(post: Omit<FeedPost, 'id'>): Promise<FeedPost> {
     const payload = this.buildPayload(post);